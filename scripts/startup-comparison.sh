@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+#
+# Compares time-to-start and resident memory of the packaging variants.
+#
+#   ./mvnw -Pcds -DskipTests package       # jar, AOT jar and CDS archive (target/cds)
+#   ./mvnw -Pnative -DskipTests package    # optional, needs GraalVM (target/roman-numbers-kata)
+#   scripts/startup-comparison.sh [runs]
+#
+# Each variant is started "runs" times (default 5). Time-to-start is measured from process launch
+# until /actuator/health/liveness answers, which happens before the startup warm-up, so the warm-up
+# is not part of the figure; RSS is read at that point. Medians are reported.
+set -euo pipefail
+
+RUNS="${1:-5}"
+HTTP_PORT="${HTTP_PORT:-18080}"
+GRPC_PORT="${GRPC_PORT:-19090}"
+JAVA="${JAVA:-java}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+JAR="romannumbers-1.0-SNAPSHOT.jar"
+NATIVE="$TARGET/roman-numbers-kata"
+JOURNAL="$(mktemp -d)"
+trap 'rm -rf "$JOURNAL"' EXIT
+
+APP_ARGS=(--server.port="$HTTP_PORT" --roman-numbers.grpc.port="$GRPC_PORT" --roman-numbers.journal.directory="$JOURNAL")
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_kb() {
+    awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+# measure <directory> <command...>: prints "<started ms> <rss kB>"
+measure() {
+    local directory="$1"
+    shift
+    local start pid started rss
+    start="$(now_ms)"
+    (cd "$directory" && exec "$@" "${APP_ARGS[@]}") > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$HTTP_PORT/actuator/health/liveness" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "process exited before starting: $*" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+    started=$(($(now_ms) - start))
+    rss="$(rss_kb "$pid")"
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$started $rss"
+}
+
+# run_variant <name> <directory> <command...>
+run_variant() {
+    local name="$1"
+    shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+    local started rss
+    started="$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)"
+    rss="$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)"
+    printf '%-12s %12s %12s\n' "$name" "$started" "$((rss / 1024))"
+}
+
+printf '%-12s %12s %12s\n' "variant" "start (ms)" "RSS (MB)"
+
+[[ -f "$TARGET/$JAR" ]] && run_variant "jar" "$TARGET" "$JAVA" -jar "$JAR"
+if [[ -f "$TARGET/cds/$JAR" ]]; then
+    run_variant "aot" "$TARGET/cds" "$JAVA" -Dspring.aot.enabled=true -jar "$JAR"
+    [[ -f "$TARGET/cds/application.jsa" ]] && run_variant "aot+cds" "$TARGET/cds" \
+        "$JAVA" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$JAR"
+fi
+[[ -x "$NATIVE" ]] && run_variant "native" "$TARGET" "$NATIVE"
+exit 0
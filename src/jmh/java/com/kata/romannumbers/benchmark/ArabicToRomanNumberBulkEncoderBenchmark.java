@@ -0,0 +1,97 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberBulkEncoder;
+import com.kata.romannumbers.application.ArabicToRomanNumberBulkEncoderUseCase;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the bulk encoder with the number of cores: encodes {@value #SIZE} uniform values per invocation
+ * on a pool of {@code parallelism} workers, into a heap array and an off-heap buffer. The baseline is the
+ * single-threaded loop over {@link ArabicToRomanNumberConverter#perform(int, ByteBuffer)}. Scores are per value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ArabicToRomanNumberBulkEncoderBenchmark {
+
+    private static final int SIZE = 10_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private final ArabicToRomanNumberConverter converter = new ArabicToRomanNumberConverterUseCase();
+
+    private ForkJoinPool pool;
+    private ArabicToRomanNumberBulkEncoder encoder;
+    private int[] numbers;
+    private byte[] heap;
+    private ByteBuffer direct;
+    private int[] offsets;
+    private long[] errors;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        encoder = new ArabicToRomanNumberBulkEncoderUseCase(pool);
+        numbers = new int[SIZE];
+        int[] sample = InputDistribution.UNIFORM.arabicNumbers();
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = sample[i % sample.length];
+        }
+        int length = (int) encoder.encodedLength(numbers, SIZE);
+        heap = new byte[length];
+        direct = ByteBuffer.allocateDirect(length);
+        offsets = new int[SIZE + 1];
+        errors = new long[(SIZE + 63) / 64];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int heapArray() {
+        return encoder.encode(numbers, SIZE, heap, offsets, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int directBuffer() {
+        return encoder.encode(numbers, SIZE, direct, offsets, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int sequentialLoop() {
+        ByteBuffer target = ByteBuffer.wrap(heap);
+        for (int i = 0; i < SIZE; i++) {
+            offsets[i] = target.position();
+            converter.perform(numbers[i], target);
+        }
+        offsets[SIZE] = target.position();
+        return offsets[SIZE];
+    }
+}
@@ -0,0 +1,68 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArabicToRomanNumberConverterBenchmark {
+
+    @Param({"uniform", "skewed", "invalid-heavy"})
+    private String distribution;
+
+    private final ArabicToRomanNumberConverter converter = new ArabicToRomanNumberConverterUseCase();
+    private final ByteBuffer buffer = ByteBuffer.allocate(16);
+    private int[] numbers;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        numbers = InputDistribution.of(distribution).arabicNumbers();
+    }
+
+    @Benchmark
+    public Object perform() {
+        int number = numbers[index++ & (InputDistribution.SIZE - 1)];
+        try {
+            return converter.perform(number);
+        } catch (InvalidArabicNumberException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object performIntoByteBuffer() {
+        int number = numbers[index++ & (InputDistribution.SIZE - 1)];
+        buffer.clear();
+        try {
+            converter.perform(number, buffer);
+            return buffer;
+        } catch (InvalidArabicNumberException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object tryPerform() {
+        return converter.tryPerform(numbers[index++ & (InputDistribution.SIZE - 1)]);
+    }
+}
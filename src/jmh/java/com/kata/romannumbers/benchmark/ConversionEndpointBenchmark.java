@@ -0,0 +1,96 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.RomanNumbersKataApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Full request path through the Spring MVC dispatcher, the REST adapters and {@code GlobalExceptionHandler}.
+ * gRPC, the journal, the startup warm-up and admission control are off, so the trial neither binds a fixed port
+ * nor writes to the working directory, and only the adapters named here are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionEndpointBenchmark {
+
+    private static final String ARABIC_TO_ROMAN_URL = "/api/v1/roman-numbers/arabic-to-roman";
+    private static final String ROMAN_TO_ARABIC_URL = "/api/v1/roman-numbers/roman-to-arabic";
+
+    @Param({"uniform", "skewed", "invalid-heavy"})
+    private String distribution;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String[] arabicNumbers;
+    private String[] romanNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(RomanNumbersKataApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN",
+                        "roman-numbers.grpc.enabled=false",
+                        "roman-numbers.journal.enabled=false",
+                        "roman-numbers.warm-up.enabled=false",
+                        "roman-numbers.admission.enabled=false")
+                .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        InputDistribution inputs = InputDistribution.of(distribution);
+        int[] numbers = inputs.arabicNumbers();
+        arabicNumbers = new String[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            arabicNumbers[i] = String.valueOf(numbers[i]);
+        }
+        romanNumbers = inputs.romanNumbers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next() {
+            return index++ & (InputDistribution.SIZE - 1);
+        }
+    }
+
+    @Benchmark
+    public MvcResult arabicToRoman(Cursor cursor) throws Exception {
+        return mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", arabicNumbers[cursor.next()])).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult romanToArabic(Cursor cursor) throws Exception {
+        return mockMvc.perform(get(ROMAN_TO_ARABIC_URL).param("roman", romanNumbers[cursor.next()])).andReturn();
+    }
+}
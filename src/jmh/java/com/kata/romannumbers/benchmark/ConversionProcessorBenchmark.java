@@ -0,0 +1,112 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.ArabicToRomanNumberProcessor;
+import com.kata.romannumbers.application.ConversionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams {@value #SIZE} uniform arabic numbers from a {@link SubmissionPublisher} through an
+ * {@link ArabicToRomanNumberProcessor} into a subscriber with unbounded demand. The publisher and the
+ * processor run on separate single-thread executors, so every upstream request is a cross-thread hand-off.
+ * A batch size of 1 is the one-element-per-signal baseline. Scores are per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionProcessorBenchmark {
+
+    private static final int SIZE = 16 * InputDistribution.SIZE;
+
+    @Param({"1", "16", "256"})
+    private int batchSize;
+
+    private final ArabicToRomanNumberConverterUseCase converter = new ArabicToRomanNumberConverterUseCase();
+
+    private ExecutorService publisherExecutor;
+    private ExecutorService processorExecutor;
+    private Integer[] numbers;
+
+    @Setup
+    public void setUp() {
+        publisherExecutor = Executors.newSingleThreadExecutor();
+        processorExecutor = Executors.newSingleThreadExecutor();
+        int[] sample = InputDistribution.UNIFORM.arabicNumbers();
+        numbers = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = sample[i % sample.length];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisherExecutor.shutdown();
+        processorExecutor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long stream() throws InterruptedException {
+        ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(converter, processorExecutor,
+                batchSize);
+        CountingSubscriber subscriber = new CountingSubscriber();
+        processor.subscribe(subscriber);
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(publisherExecutor,
+                Flow.defaultBufferSize())) {
+            publisher.subscribe(processor);
+            for (Integer number : numbers) {
+                publisher.submit(number);
+            }
+        }
+        subscriber.completed.await();
+        return subscriber.count;
+    }
+
+    private static final class CountingSubscriber implements Flow.Subscriber<ConversionResult> {
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private long count;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ConversionResult item) {
+            count++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
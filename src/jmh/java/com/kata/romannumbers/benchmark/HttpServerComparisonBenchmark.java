@@ -0,0 +1,188 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.RomanNumbersKataApplication;
+import com.kata.romannumbers.infrastructure.input.lean.LeanHttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET conversions over a real keep-alive connection, served by Spring MVC on Tomcat or by the lean JDK HTTP
+ * server. The client writes prebuilt request bytes and reads the response by its Content-Length, so the
+ * difference between the two is the server side. The journal and gRPC are off in both, and so is admission
+ * control, which only guards the Tomcat path and would answer a single client with 429 once its burst is spent.
+ * Tomcat closes the connection after a 400, so the client reconnects whenever the response asks for it. Any
+ * other status than 2xx or 400 fails the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpServerComparisonBenchmark {
+
+    private static final String ARABIC_TO_ROMAN_URL = "/api/v1/roman-numbers/arabic-to-roman?number=";
+    private static final String ROMAN_TO_ARABIC_URL = "/api/v1/roman-numbers/roman-to-arabic?roman=";
+
+    @Param({"tomcat", "lean"})
+    private String server;
+
+    @Param({"uniform", "invalid-heavy"})
+    private String distribution;
+
+    private ConfigurableApplicationContext context;
+    private int port;
+    private byte[][] arabicRequests;
+    private byte[][] romanRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(RomanNumbersKataApplication.class)
+                .properties("logging.level.root=WARN",
+                        "roman-numbers.grpc.enabled=false",
+                        "roman-numbers.journal.enabled=false",
+                        "roman-numbers.admission.enabled=false");
+        if ("lean".equals(server)) {
+            context = builder.web(WebApplicationType.NONE)
+                    .properties("roman-numbers.lean-http.enabled=true", "roman-numbers.lean-http.port=0")
+                    .run();
+            port = context.getBean(LeanHttpServer.class).getPort();
+        } else {
+            context = builder.properties("server.port=0", "server.tomcat.max-keep-alive-requests=-1").run();
+            port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        }
+
+        InputDistribution inputs = InputDistribution.of(distribution);
+        int[] numbers = inputs.arabicNumbers();
+        String[] romans = inputs.romanNumbers();
+        arabicRequests = new byte[numbers.length][];
+        romanRequests = new byte[romans.length][];
+        for (int i = 0; i < numbers.length; i++) {
+            arabicRequests[i] = request(ARABIC_TO_ROMAN_URL + numbers[i]);
+        }
+        for (int i = 0; i < romans.length; i++) {
+            romanRequests[i] = request(ROMAN_TO_ARABIC_URL + URLEncoder.encode(romans[i], StandardCharsets.UTF_8));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Connection {
+        private int port;
+        private Socket socket;
+        private OutputStream output;
+        private InputStream input;
+        private int index;
+
+        @Setup(Level.Iteration)
+        public void open(HttpServerComparisonBenchmark benchmark) throws IOException {
+            port = benchmark.port;
+            connect();
+        }
+
+        private void connect() throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setTcpNoDelay(true);
+            output = socket.getOutputStream();
+            input = new BufferedInputStream(socket.getInputStream());
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            socket.close();
+        }
+
+        int next() {
+            return index++ & (InputDistribution.SIZE - 1);
+        }
+
+        /**
+         * Sends one request and consumes its response.
+         *
+         * @return the status code
+         * @throws IllegalStateException when the status is neither 2xx nor 400
+         */
+        int exchange(byte[] request) throws IOException {
+            output.write(request);
+            output.flush();
+            int status = -1;
+            int contentLength = 0;
+            boolean close = false;
+            String line;
+            while (!(line = readLine()).isEmpty()) {
+                if (status < 0) {
+                    status = Integer.parseInt(line, 9, 12, 10);
+                } else if (line.regionMatches(true, 0, "content-length:", 0, 15)) {
+                    contentLength = Integer.parseInt(line.substring(15).trim());
+                } else if (line.equalsIgnoreCase("connection: close")) {
+                    close = true;
+                }
+            }
+            input.skipNBytes(contentLength);
+            if (status != 400 && (status < 200 || status > 299)) {
+                throw new IllegalStateException("Unexpected status " + status);
+            }
+            if (close) {
+                socket.close();
+                connect();
+            }
+            return status;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder(64);
+            int current;
+            while ((current = input.read()) != '\n') {
+                if (current < 0) {
+                    throw new IOException("Connection closed by the server");
+                }
+                if (current != '\r') {
+                    line.append((char) current);
+                }
+            }
+            return line.toString();
+        }
+    }
+
+    @Benchmark
+    public int arabicToRoman(Connection connection) throws IOException {
+        return connection.exchange(arabicRequests[connection.next()]);
+    }
+
+    @Benchmark
+    public int romanToArabic(Connection connection) throws IOException {
+        return connection.exchange(romanRequests[connection.next()]);
+    }
+
+    private static byte[] request(String pathAndQuery) {
+        return ("GET " + pathAndQuery + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
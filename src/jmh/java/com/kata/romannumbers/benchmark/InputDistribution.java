@@ -0,0 +1,70 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+
+import java.util.SplittableRandom;
+
+/**
+ * Input mixes the benchmarks are run against.
+ * <ul>
+ *     <li>{@code uniform}: every valid value is equally likely</li>
+ *     <li>{@code skewed}: 80% of the inputs fall in 1..100, the way page and chapter numbers do</li>
+ *     <li>{@code invalid-heavy}: half of the inputs are out of range or malformed</li>
+ * </ul>
+ */
+public enum InputDistribution {
+    UNIFORM,
+    SKEWED,
+    INVALID_HEAVY;
+
+    public static final int SIZE = 4096;
+
+    private static final long SEED = 42L;
+    private static final String[] INVALID_ROMAN_NUMBERS = {
+            "IIII", "VV", "IC", "XM", "MMMM", "ABC", "X1V", "I V", "", "MCMXCIVI"
+    };
+
+    public static InputDistribution of(String name) {
+        return valueOf(name.toUpperCase().replace('-', '_'));
+    }
+
+    public int[] arabicNumbers() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] numbers = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = switch (this) {
+                case UNIFORM -> validArabicNumber(random);
+                case SKEWED -> skewedArabicNumber(random);
+                case INVALID_HEAVY -> random.nextBoolean()
+                        ? validArabicNumber(random)
+                        : random.nextBoolean() ? random.nextInt(-1000, 1) : random.nextInt(4000, 10000);
+            };
+        }
+        return numbers;
+    }
+
+    public String[] romanNumbers() {
+        ArabicToRomanNumberConverter converter = new ArabicToRomanNumberConverterUseCase();
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] numbers = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = switch (this) {
+                case UNIFORM -> converter.perform(validArabicNumber(random));
+                case SKEWED -> converter.perform(skewedArabicNumber(random));
+                case INVALID_HEAVY -> random.nextBoolean()
+                        ? converter.perform(validArabicNumber(random))
+                        : INVALID_ROMAN_NUMBERS[random.nextInt(INVALID_ROMAN_NUMBERS.length)];
+            };
+        }
+        return numbers;
+    }
+
+    private static int validArabicNumber(SplittableRandom random) {
+        return random.nextInt(1, 4000);
+    }
+
+    private static int skewedArabicNumber(SplittableRandom random) {
+        return random.nextInt(10) < 8 ? random.nextInt(1, 101) : validArabicNumber(random);
+    }
+}
@@ -0,0 +1,69 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import com.kata.romannumbers.infrastructure.metrics.MeteredArabicToRomanNumberConverter;
+import com.kata.romannumbers.infrastructure.metrics.MeteredRomanToArabicNumberConverter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Micrometer decorators: the same conversions with and without metering, against the
+ * Prometheus registry used in production.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    private boolean metered;
+
+    private ArabicToRomanNumberConverter arabicToRoman;
+    private RomanToArabicNumberConverter romanToArabic;
+    private int[] arabicNumbers;
+    private String[] romanNumbers;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        arabicNumbers = InputDistribution.UNIFORM.arabicNumbers();
+        romanNumbers = InputDistribution.UNIFORM.romanNumbers();
+        arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+        romanToArabic = new RomanToArabicNumberConverterUseCase();
+        if (metered) {
+            ConversionMetrics metrics = new ConversionMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+            arabicToRoman = new MeteredArabicToRomanNumberConverter(arabicToRoman, metrics);
+            romanToArabic = new MeteredRomanToArabicNumberConverter(romanToArabic, metrics);
+        }
+    }
+
+    @Benchmark
+    public Object arabicToRoman() {
+        return arabicToRoman.tryPerform(arabicNumbers[index++ & (InputDistribution.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public Object romanToArabic() {
+        return romanToArabic.tryPerform(romanNumbers[index++ & (InputDistribution.SIZE - 1)]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kata.romannumbers.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseEncoder;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode time of the REST response records in every {@link ResponseFormat}, JSON being the current output.
+ * The mean payload size of each format is printed once per trial, before the measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private ResponseFormat format;
+
+    private ResponseEncoder encoder;
+    private ArabicToRomanNumberResponse[] conversions;
+    private ErrorResponse error;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        encoder = new ResponseEncoder(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL));
+        ArabicToRomanNumberConverterUseCase converter = new ArabicToRomanNumberConverterUseCase();
+        int[] numbers = InputDistribution.UNIFORM.arabicNumbers();
+        conversions = new ArabicToRomanNumberResponse[numbers.length];
+        long conversionBytes = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            conversions[i] = new ArabicToRomanNumberResponse(numbers[i], converter.perform(numbers[i]));
+            conversionBytes += encoder.encode(format, conversions[i]).length;
+        }
+        error = new ErrorResponse("Invalid Roman Number", ConversionError.ROMAN_INVALID_FORMAT.message());
+        System.out.printf("%n%s payload: conversion %.1f bytes on average, error %d bytes%n", format,
+                (double) conversionBytes / numbers.length, encoder.encode(format, error, null).length);
+    }
+
+    @Benchmark
+    public byte[] conversion() {
+        return encoder.encode(format, conversions[index++ & (InputDistribution.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public byte[] error() {
+        return encoder.encode(format, error, null);
+    }
+}
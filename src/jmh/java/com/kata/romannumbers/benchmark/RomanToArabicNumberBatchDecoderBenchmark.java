@@ -0,0 +1,87 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberBatchDecoder;
+import com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberScalarBatchDecoderUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a whole batch of {@link InputDistribution#SIZE} numerals per invocation; scores are per numeral.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RomanToArabicNumberBatchDecoderBenchmark {
+
+    @Param({"uniform", "skewed", "invalid-heavy"})
+    private String distribution;
+
+    private final RomanToArabicNumberBatchDecoder swar = new RomanToArabicNumberBatchDecoderUseCase();
+    private final RomanToArabicNumberBatchDecoder scalar = new RomanToArabicNumberScalarBatchDecoderUseCase();
+    private final RomanToArabicNumberConverter converter = new RomanToArabicNumberConverterUseCase();
+
+    private String[] numbers;
+    private byte[] source;
+    private int[] offsets;
+    private int[] results;
+    private long[] errors;
+
+    @Setup
+    public void setUp() {
+        numbers = InputDistribution.of(distribution).romanNumbers();
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        offsets = new int[numbers.length + 1];
+        for (int i = 0; i < numbers.length; i++) {
+            packed.writeBytes(numbers[i].getBytes(StandardCharsets.US_ASCII));
+            offsets[i + 1] = packed.size();
+        }
+        source = packed.toByteArray();
+        results = new int[numbers.length];
+        errors = new long[(numbers.length + 63) / 64];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputDistribution.SIZE)
+    public int swar() {
+        return swar.decode(source, offsets, numbers.length, results, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputDistribution.SIZE)
+    public int scalar() {
+        return scalar.decode(source, offsets, numbers.length, results, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputDistribution.SIZE)
+    public int perString() {
+        int invalid = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            ConversionResult result = converter.tryPerform(numbers[i]);
+            results[i] = result.arabic();
+            invalid += result.isValid() ? 0 : 1;
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,77 @@
+package com.kata.romannumbers.benchmark;
+
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberReverseIndexUseCase;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RomanToArabicNumberConverterBenchmark {
+
+    @Param({"uniform", "skewed", "invalid-heavy"})
+    private String distribution;
+
+    @Param({"parser", "reverse-index"})
+    private String implementation;
+
+    private RomanToArabicNumberConverter converter;
+    private String[] numbers;
+    private byte[][] bytes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        numbers = InputDistribution.of(distribution).romanNumbers();
+        bytes = new byte[numbers.length][];
+        for (int i = 0; i < numbers.length; i++) {
+            bytes[i] = numbers[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        converter = "reverse-index".equals(implementation)
+                ? new RomanToArabicNumberReverseIndexUseCase()
+                : new RomanToArabicNumberConverterUseCase();
+    }
+
+    @Benchmark
+    public Object perform() {
+        String number = numbers[index++ & (InputDistribution.SIZE - 1)];
+        try {
+            return converter.perform(number);
+        } catch (InvalidRomanNumberException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public int decodeBytes() {
+        byte[] number = bytes[index++ & (InputDistribution.SIZE - 1)];
+        try {
+            return converter.decode(number, 0, number.length);
+        } catch (InvalidRomanNumberException ex) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Object tryPerform() {
+        return converter.tryPerform(numbers[index++ & (InputDistribution.SIZE - 1)]);
+    }
+}
@@ -0,0 +1,34 @@
+package com.kata.romannumbers.loadtest;
+
+/**
+ * Conversion endpoints driven by the load test.
+ */
+public enum Endpoint {
+    ARABIC_TO_ROMAN("arabic-to-roman", "number"),
+    ROMAN_TO_ARABIC("roman-to-arabic", "roman");
+
+    private final String path;
+    private final String parameter;
+
+    Endpoint(String path, String parameter) {
+        this.path = path;
+        this.parameter = parameter;
+    }
+
+    public static Endpoint of(String name) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.path.equals(name)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint: " + name);
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+}
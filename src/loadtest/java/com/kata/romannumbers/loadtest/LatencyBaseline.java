@@ -0,0 +1,81 @@
+package com.kata.romannumbers.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Stored p99 response times, one {@code <endpoint>.<rate>.p99.ms} property per step and endpoint.
+ * <p>
+ * Baselines depend on the machine they were recorded on; refresh them with {@code --update-baseline}
+ * after an intended change or on a new CI runner.
+ */
+final class LatencyBaseline {
+
+    private static final String COMMENT = "p99 response time in milliseconds per endpoint and offered rate";
+
+    private LatencyBaseline() {
+    }
+
+    static Properties load(Path file) throws IOException {
+        Properties baseline = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                baseline.load(reader);
+            }
+        }
+        return baseline;
+    }
+
+    static void store(Path file, List<StepResult> steps) throws IOException {
+        Properties baseline = new Properties();
+        for (StepResult step : steps) {
+            step.responseTimes().forEach((endpoint, histogram) ->
+                    baseline.setProperty(key(endpoint, step.rate()), format(LatencyReport.p99(histogram))));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            baseline.store(writer, COMMENT);
+        }
+    }
+
+    /**
+     * @return one message per step and endpoint whose p99 exceeds its baseline by more than {@code tolerance}
+     */
+    static List<String> regressions(Properties baseline, List<StepResult> steps, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (StepResult step : steps) {
+            for (Map.Entry<Endpoint, Histogram> entry : step.responseTimes().entrySet()) {
+                String key = key(entry.getKey(), step.rate());
+                String stored = baseline.getProperty(key);
+                if (stored == null) {
+                    continue;
+                }
+                double limit = Double.parseDouble(stored) * (1 + tolerance);
+                double measured = LatencyReport.p99(entry.getValue());
+                if (measured > limit) {
+                    regressions.add(String.format(Locale.ROOT, "%s: p99 %.3f ms exceeds baseline %s ms + %.0f%%",
+                            key, measured, stored, tolerance * 100));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    private static String key(Endpoint endpoint, int rate) {
+        return endpoint.path() + "." + rate + ".p99.ms";
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+}
@@ -0,0 +1,79 @@
+package com.kata.romannumbers.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a load test run:
+ * <ul>
+ *     <li>{@code summary.txt}: percentiles per step and endpoint, also printed to the console</li>
+ *     <li>{@code <endpoint>-<rate>rps.hgrm}: full percentile distribution, in milliseconds, for plotting</li>
+ *     <li>{@code throughput-concurrency.csv}: achieved throughput against mean and peak concurrency per step</li>
+ * </ul>
+ */
+final class LatencyReport {
+
+    static final double MICROS_PER_MILLI = 1000.0;
+
+    private static final String HEADER = String.format(Locale.ROOT, "%8s %-16s %9s %9s %9s %9s %9s %9s %12s",
+            "rate", "endpoint", "requests", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 svc ms");
+
+    private LatencyReport() {
+    }
+
+    static void write(Path directory, List<StepResult> steps, PrintStream console) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            for (PrintStream out : List.of(console, summary)) {
+                writeSummary(steps, out);
+            }
+        }
+        for (StepResult step : steps) {
+            for (Map.Entry<Endpoint, Histogram> entry : step.responseTimes().entrySet()) {
+                Path file = directory.resolve(entry.getKey().path() + "-" + step.rate() + "rps.hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+        }
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(directory.resolve("throughput-concurrency.csv")))) {
+            csv.println("offered_rate,throughput,mean_concurrency,max_in_flight,p99_ms,unexpected,failed");
+            for (StepResult step : steps) {
+                csv.printf(Locale.ROOT, "%d,%.1f,%.2f,%d,%.3f,%d,%d%n", step.rate(), step.throughput(),
+                        step.meanConcurrency(), step.maxInFlight(), p99(step.allResponseTimes()), step.unexpected(),
+                        step.failed());
+            }
+        }
+    }
+
+    static double p99(Histogram histogram) {
+        return histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+    }
+
+    private static void writeSummary(List<StepResult> steps, PrintStream out) {
+        out.println(HEADER);
+        for (StepResult step : steps) {
+            for (Endpoint endpoint : step.responseTimes().keySet()) {
+                Histogram responseTimes = step.responseTimes().get(endpoint);
+                out.printf(Locale.ROOT, "%8d %-16s %9d %9.3f %9.3f %9.3f %9.3f %9.3f %12.3f%n",
+                        step.rate(), endpoint.path(), responseTimes.getTotalCount(),
+                        responseTimes.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                        responseTimes.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                        p99(responseTimes),
+                        responseTimes.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                        responseTimes.getMaxValue() / MICROS_PER_MILLI,
+                        p99(step.serviceTimes().get(endpoint)));
+            }
+            out.printf(Locale.ROOT, "%8s throughput %.1f req/s, mean concurrency %.2f, max in flight %d, "
+                            + "unexpected %d, failed %d%n",
+                    "", step.throughput(), step.meanConcurrency(), step.maxInFlight(), step.unexpected(), step.failed());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.kata.romannumbers.loadtest;
+
+import com.kata.romannumbers.RomanNumbersKataApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * HTTP load test of the GET conversion endpoints.
+ * <p>
+ * Runs one open-model step per offered rate against the application, started in-process unless {@code --url}
+ * points to a running instance, and writes a {@link LatencyReport}. The run fails with exit code 1 when a p99
+ * response time regresses past the stored {@link LatencyBaseline}.
+ * <pre>
+ * ./mvnw -Ploadtest verify -DskipTests "-Dloadtest.args=--rates=500,1000 --invalid-ratio=0.2"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] APPLICATION_ARGS = {
+            "--server.port=0",
+            "--roman-numbers.grpc.enabled=false",
+            // Otherwise the rate limit answers 429 to this single client past 2000 req/s
+            "--roman-numbers.admission.enabled=false",
+            "--roman-numbers.journal.directory=target/loadtest/journal",
+            "--logging.level.root=warn"
+    };
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext application = null;
+        URI baseUri = options.baseUri();
+        if (baseUri == null) {
+            // DevTools would relaunch main() on a restart class loader with the application arguments
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            application = new SpringApplicationBuilder(RomanNumbersKataApplication.class).run(APPLICATION_ARGS);
+            baseUri = URI.create("http://localhost:" + application.getEnvironment().getProperty("local.server.port"));
+        }
+
+        List<StepResult> steps = new ArrayList<>();
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+            RequestMix mix = new RequestMix(baseUri, options.endpoints(), options.invalidRatio(), REQUEST_TIMEOUT);
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, mix, options.endpoints(),
+                    REQUEST_TIMEOUT);
+            for (int rate : options.rates()) {
+                System.out.printf("Offering %d req/s to %s for %s after %s warm-up%n",
+                        rate, baseUri, options.duration(), options.warmup());
+                steps.add(generator.run(rate, options.warmup(), options.duration()));
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+
+        LatencyReport.write(options.reportDirectory(), steps, System.out);
+        System.out.println("Report written to " + options.reportDirectory().toAbsolutePath());
+
+        if (options.updateBaseline()) {
+            LatencyBaseline.store(options.baseline(), steps);
+            System.out.println("Baseline updated: " + options.baseline());
+            return;
+        }
+        Properties baseline = LatencyBaseline.load(options.baseline());
+        List<String> regressions = LatencyBaseline.regressions(baseline, steps, options.tolerance());
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println(baseline.isEmpty()
+                ? "No baseline at " + options.baseline() + "; run with --update-baseline to record one"
+                : "p99 within " + Math.round(options.tolerance() * 100) + "% of the baseline");
+    }
+}
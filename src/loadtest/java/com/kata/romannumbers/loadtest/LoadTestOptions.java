@@ -0,0 +1,82 @@
+package com.kata.romannumbers.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTest}, given as {@code --name=value}.
+ *
+ * @param baseUri        service under test; {@code null} starts the application in-process on a random port
+ * @param rates          offered request rates, in requests per second, one step each
+ * @param endpoints      endpoints the requests are spread over, round robin
+ * @param warmup         unrecorded time at the step rate before measuring
+ * @param duration       measured time of each step
+ * @param invalidRatio   fraction of the requests with invalid input
+ * @param reportDirectory where the percentile distributions and the throughput curve are written
+ * @param baseline       stored p99 baseline
+ * @param tolerance      allowed p99 increase over the baseline before failing, as a fraction
+ * @param updateBaseline rewrite the baseline with the measured values instead of checking it
+ */
+public record LoadTestOptions(URI baseUri,
+                              List<Integer> rates,
+                              List<Endpoint> endpoints,
+                              Duration warmup,
+                              Duration duration,
+                              double invalidRatio,
+                              Path reportDirectory,
+                              Path baseline,
+                              double tolerance,
+                              boolean updateBaseline) {
+
+    private static final String PREFIX = "--";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(PREFIX.length()), "true");
+            } else {
+                values.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.containsKey("url") ? URI.create(values.remove("url")) : null,
+                Arrays.stream(values.getOrDefault("rates", "100,250,500,1000").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList(),
+                Arrays.stream(values.getOrDefault("endpoints", "arabic-to-roman,roman-to-arabic").split(","))
+                        .map(String::trim)
+                        .map(Endpoint::of)
+                        .toList(),
+                Duration.parse(values.getOrDefault("warmup", "PT5S")),
+                Duration.parse(values.getOrDefault("duration", "PT15S")),
+                Double.parseDouble(values.getOrDefault("invalid-ratio", "0.1")),
+                Path.of(values.getOrDefault("report", "target/loadtest")),
+                Path.of(values.getOrDefault("baseline", "src/loadtest/resources/latency-baseline.properties")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.25")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")));
+        values.keySet().removeAll(List.of("rates", "endpoints", "warmup", "duration", "invalid-ratio", "report",
+                "baseline", "tolerance", "update-baseline"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.rates.stream().anyMatch(rate -> rate <= 0)) {
+            throw new IllegalArgumentException("Rates must be positive: " + options.rates);
+        }
+        if (options.invalidRatio < 0 || options.invalidRatio > 1) {
+            throw new IllegalArgumentException("invalid-ratio must be between 0 and 1: " + options.invalidRatio);
+        }
+        return options;
+    }
+}
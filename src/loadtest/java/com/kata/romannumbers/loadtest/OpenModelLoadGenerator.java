@@ -0,0 +1,119 @@
+package com.kata.romannumbers.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a constant rate regardless of how fast they are answered (open workload model).
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate}. A slow response never delays the next send, and
+ * latency is measured from the due time rather than from the actual send, so stalls of the service or of
+ * the generator itself are charged to every request they hold back (coordinated omission correction).
+ * The service time, measured from the actual send, is kept alongside for comparison.
+ */
+final class OpenModelLoadGenerator {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final long DRAIN_POLL_MILLIS = 10;
+
+    private final HttpClient client;
+    private final RequestMix mix;
+    private final List<Endpoint> endpoints;
+    private final Duration timeout;
+
+    OpenModelLoadGenerator(HttpClient client, RequestMix mix, List<Endpoint> endpoints, Duration timeout) {
+        this.client = client;
+        this.mix = mix;
+        this.endpoints = endpoints;
+        this.timeout = timeout;
+    }
+
+    StepResult run(int rate, Duration warmup, Duration duration) throws InterruptedException {
+        Map<Endpoint, Recorder> responseTimes = recorders();
+        Map<Endpoint, Recorder> serviceTimes = recorders();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        LongAdder completed = new LongAdder();
+        LongAdder unexpected = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        double interval = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long sequence = 0; ; sequence++) {
+            long due = start + (long) (sequence * interval);
+            if (due >= end) {
+                break;
+            }
+            long delay = due - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            boolean measured = due >= measureFrom;
+            RequestMix.Target target = mix.target(sequence);
+            int outstanding = inFlight.incrementAndGet();
+            if (measured) {
+                maxInFlight.accumulateAndGet(outstanding, Math::max);
+            }
+            long sent = System.nanoTime();
+            client.sendAsync(target.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long received = System.nanoTime();
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        if (failure != null) {
+                            failed.increment();
+                        } else if (response.statusCode() == target.expectedStatus()) {
+                            completed.increment();
+                        } else {
+                            unexpected.increment();
+                        }
+                        responseTimes.get(target.endpoint()).recordValue(micros(received - due));
+                        serviceTimes.get(target.endpoint()).recordValue(micros(received - sent));
+                    });
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+
+        return new StepResult(rate, histograms(responseTimes), histograms(serviceTimes),
+                duration.toNanos() / (double) TimeUnit.SECONDS.toNanos(1),
+                completed.sum(), unexpected.sum(), failed.sum(), maxInFlight.get());
+    }
+
+    private Map<Endpoint, Recorder> recorders() {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        endpoints.forEach(endpoint -> recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS)));
+        return recorders;
+    }
+
+    private static Map<Endpoint, Histogram> histograms(Map<Endpoint, Recorder> recorders) {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+}
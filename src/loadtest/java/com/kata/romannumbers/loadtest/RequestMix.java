@@ -0,0 +1,59 @@
+package com.kata.romannumbers.loadtest;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Pre-built requests with a fixed share of invalid input, so that no request is built on the sending path.
+ * <p>
+ * Requests alternate over the configured endpoints. Valid inputs are uniform over 1..3999; invalid ones are
+ * out of range, malformed or of the wrong type, and are all expected to be answered with 400.
+ */
+final class RequestMix {
+
+    static final int SIZE = 4096;
+
+    private static final long SEED = 42L;
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final String[] INVALID_ARABIC_NUMBERS = {"0", "-1", "4000", "10000", "abc", "3.5"};
+    private static final String[] INVALID_ROMAN_NUMBERS = {"IIII", "VV", "IC", "XM", "MMMM", "ABC", "X1V", "I V"};
+
+    record Target(Endpoint endpoint, HttpRequest request, int expectedStatus) {
+    }
+
+    private final Target[] targets = new Target[SIZE];
+
+    RequestMix(URI baseUri, List<Endpoint> endpoints, double invalidRatio, Duration timeout) {
+        ArabicToRomanNumberConverter converter = new ArabicToRomanNumberConverterUseCase();
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < SIZE; i++) {
+            Endpoint endpoint = endpoints.get(i % endpoints.size());
+            boolean invalid = random.nextDouble() < invalidRatio;
+            String value;
+            if (invalid) {
+                String[] candidates = endpoint == Endpoint.ARABIC_TO_ROMAN ? INVALID_ARABIC_NUMBERS : INVALID_ROMAN_NUMBERS;
+                value = candidates[random.nextInt(candidates.length)];
+            } else {
+                int number = random.nextInt(1, 4000);
+                value = endpoint == Endpoint.ARABIC_TO_ROMAN ? String.valueOf(number) : converter.perform(number);
+            }
+            URI uri = baseUri.resolve("/api/v1/roman-numbers/" + endpoint.path() + "?" + endpoint.parameter() + "="
+                    + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            targets[i] = new Target(endpoint, HttpRequest.newBuilder(uri).timeout(timeout).GET().build(),
+                    invalid ? BAD_REQUEST : OK);
+        }
+    }
+
+    Target target(long sequence) {
+        return targets[(int) (sequence % SIZE)];
+    }
+}
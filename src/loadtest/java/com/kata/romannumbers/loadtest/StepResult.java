@@ -0,0 +1,51 @@
+package com.kata.romannumbers.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Outcome of one constant-rate step.
+ *
+ * @param rate            offered rate, in requests per second
+ * @param responseTimes   latency from the intended send time, per endpoint, in microseconds
+ * @param serviceTimes    latency from the actual send time, per endpoint, in microseconds
+ * @param seconds         measured time
+ * @param completed       requests answered with the expected status
+ * @param unexpected      requests answered with another status
+ * @param failed          requests without an answer (connection error or timeout)
+ * @param maxInFlight     highest number of outstanding requests
+ */
+public record StepResult(int rate,
+                         Map<Endpoint, Histogram> responseTimes,
+                         Map<Endpoint, Histogram> serviceTimes,
+                         double seconds,
+                         long completed,
+                         long unexpected,
+                         long failed,
+                         int maxInFlight) {
+
+    public long requests() {
+        return completed + unexpected + failed;
+    }
+
+    public double throughput() {
+        return completed / seconds;
+    }
+
+    /**
+     * Mean number of outstanding requests, by Little's law.
+     */
+    public double meanConcurrency() {
+        double meanSeconds = responseTimes.values().stream()
+                .mapToDouble(histogram -> histogram.getMean() * histogram.getTotalCount())
+                .sum() / Math.max(1, requests()) / 1_000_000.0;
+        return requests() / seconds * meanSeconds;
+    }
+
+    public Histogram allResponseTimes() {
+        Histogram total = new Histogram(OpenModelLoadGenerator.HIGHEST_TRACKABLE_MICROS, OpenModelLoadGenerator.SIGNIFICANT_DIGITS);
+        responseTimes.values().forEach(total::add);
+        return total;
+    }
+}
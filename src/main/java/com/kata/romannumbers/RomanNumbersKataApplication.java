@@ -1,13 +1,53 @@
 package com.kata.romannumbers;
 
+import com.kata.romannumbers.infrastructure.jfr.ConversionRecordingSummary;
+import com.kata.romannumbers.infrastructure.journal.ConversionJournalReader;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.OptionalInt;
 
 @SpringBootApplication
+@ImportRuntimeHints(RomanNumbersRuntimeHints.class)
 public class RomanNumbersKataApplication {
 
+	private static final String CONVERT_COMMAND = "convert";
+	private static final String JOURNAL_COMMAND = "journal";
+	private static final String JFR_SUMMARY_COMMAND = "jfr-summary";
+
 	public static void main(String[] args) {
+		OptionalInt exitCode = runCommand(args, System.out, System.err);
+		if (exitCode.isPresent()) {
+			System.exit(exitCode.getAsInt());
+		}
 		SpringApplication.run(RomanNumbersKataApplication.class, args);
 	}
 
+	/**
+	 * Runs the offline command named by the first argument.
+	 *
+	 * @return the exit code of the command, or empty when no command is named and the server should start
+	 */
+	static OptionalInt runCommand(String[] args, PrintStream out, PrintStream err) {
+		if (args.length == 0) {
+			return OptionalInt.empty();
+		}
+		String[] commandArgs = Arrays.copyOfRange(args, 1, args.length);
+		return switch (args[0]) {
+			case JOURNAL_COMMAND -> OptionalInt.of(ConversionJournalReader.run(commandArgs, out, err));
+			case JFR_SUMMARY_COMMAND -> OptionalInt.of(ConversionRecordingSummary.run(commandArgs, out, err));
+			case CONVERT_COMMAND -> OptionalInt.of(SpringApplication.exit(
+					new SpringApplicationBuilder(RomanNumbersKataApplication.class)
+							.web(WebApplicationType.NONE)
+							.profiles("cli")
+							.run(commandArgs)));
+			default -> OptionalInt.empty();
+		};
+	}
+
 }
@@ -0,0 +1,78 @@
+package com.kata.romannumbers;
+
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ArabicToRomanRequest;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionFailure;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanToArabicRequest;
+import com.kata.romannumbers.infrastructure.input.rest.ArabicToRomanNumberBatchPostAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.ArabicToRomanNumberGetAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.RomanToArabicNumberAggregationPostAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.RomanToArabicNumberBatchPostAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.RomanToArabicNumberGetAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.exception.GlobalExceptionHandler;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.BatchItemErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.HistogramBucketResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberAggregateResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the Spring AOT / GraalVM native image build.
+ * <p>
+ * The GET adapters return precomputed {@code ResponseEntity<?>} instances, so the response records can no
+ * longer be inferred from the handler signatures and are registered for JSON binding here. The handler and
+ * advice methods are invoked reflectively, and the protobuf runtime resolves message accessors by name.
+ * <p>
+ * AOT freezes the bean definitions of the default servlet stack, so only its handlers and {@code application.yml}
+ * are registered: the reactive adapters, the profile-specific files and the beans they would switch on never
+ * exist in the processed application.
+ */
+public class RomanNumbersRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> RESPONSE_TYPES = List.of(
+            ArabicToRomanNumberResponse.class,
+            RomanToArabicNumberResponse.class,
+            ErrorResponse.class,
+            BatchItemErrorResponse.class,
+            RomanToArabicNumberAggregateResponse.class,
+            HistogramBucketResponse.class);
+
+    static final List<Class<?>> HANDLER_TYPES = List.of(
+            ArabicToRomanNumberGetAdapter.class,
+            RomanToArabicNumberGetAdapter.class,
+            ArabicToRomanNumberBatchPostAdapter.class,
+            RomanToArabicNumberBatchPostAdapter.class,
+            RomanToArabicNumberAggregationPostAdapter.class,
+            GlobalExceptionHandler.class);
+
+    static final List<Class<?>> PROTOBUF_MESSAGE_TYPES = List.of(
+            ArabicToRomanRequest.class,
+            RomanToArabicRequest.class,
+            ConversionReply.class,
+            ConversionFailure.class);
+
+    static final String CONFIGURATION_PATTERN = "application.yml";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(hints.reflection(), RESPONSE_TYPES.toArray(Class<?>[]::new));
+
+        HANDLER_TYPES.forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        for (Class<?> message : PROTOBUF_MESSAGE_TYPES) {
+            hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerTypeIfPresent(classLoader, message.getName() + "$Builder",
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern(CONFIGURATION_PATTERN);
+    }
+}
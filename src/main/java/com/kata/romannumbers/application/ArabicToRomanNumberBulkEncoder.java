@@ -0,0 +1,29 @@
+package com.kata.romannumbers.application;
+
+import java.nio.ByteBuffer;
+
+public interface ArabicToRomanNumberBulkEncoder {
+
+    /**
+     * Number of bytes {@link #encode(int[], int, byte[], int[], long[])} writes for {@code numbers[0, count)}.
+     */
+    long encodedLength(int[] numbers, int count);
+
+    /**
+     * Encodes {@code numbers[0, count)} as ASCII roman numerals laid out back to back in {@code target},
+     * numeral {@code i} spanning {@code target[offsets[i], offsets[i + 1])}.
+     * <p>
+     * Out of range numbers get an empty span and have bit {@code i} set in {@code errors} (bit {@code i % 64}
+     * of word {@code i / 64}); the bits of valid numbers are cleared.
+     *
+     * @return the number of invalid numbers
+     * @throws IllegalArgumentException when {@code target}, {@code offsets} or {@code errors} is too small
+     */
+    int encode(int[] numbers, int count, byte[] target, int[] offsets, long[] errors);
+
+    /**
+     * Same as {@link #encode(int[], int, byte[], int[], long[])} into {@code target} from index 0, which
+     * may be a direct (off-heap) buffer. The position and limit of {@code target} are not changed.
+     */
+    int encode(int[] numbers, int count, ByteBuffer target, int[] offsets, long[] errors);
+}
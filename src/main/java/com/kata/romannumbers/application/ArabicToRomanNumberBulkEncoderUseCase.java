@@ -0,0 +1,237 @@
+package com.kata.romannumbers.application;
+
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MAX_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MIN_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.ROMAN_BYTES;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.ROMAN_OFFSETS;
+
+/**
+ * Bulk encoder copying from the precomputed numeral table in two fork-join passes.
+ * <p>
+ * The input is cut into blocks of {@value #BLOCK_SIZE} numbers. The first pass sums the encoded length of
+ * every block in parallel; a prefix sum over the block lengths then gives each block its start in the target,
+ * so the second pass can write every block independently. The block size is a multiple of 64, so no two
+ * blocks share a word of the error bitmap. No intermediate {@code String} is created.
+ * <p>
+ * Every numeral fits in 16 bytes, so it is written as two little-endian longs from a zero-padded table and the
+ * offset advanced by its real length; the next numeral overwrites the padding. Near the end of a block, where
+ * the padding would reach into the region of another block, the exact bytes are copied instead.
+ */
+@Service
+public class ArabicToRomanNumberBulkEncoderUseCase implements ArabicToRomanNumberBulkEncoder {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final int WIDE_BYTES = 2 * Long.BYTES;
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final byte[] LENGTHS = new byte[MAX_INT_VALUE + 1];
+
+    /**
+     * Numeral {@code n} zero-padded to 16 bytes, as the little-endian longs {@code WIDE[2n]} and {@code WIDE[2n + 1]}.
+     */
+    private static final long[] WIDE = new long[2 * (MAX_INT_VALUE + 1)];
+
+    static {
+        byte[] padded = new byte[WIDE_BYTES];
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            int length = ROMAN_OFFSETS[number + 1] - ROMAN_OFFSETS[number];
+            LENGTHS[number] = (byte) length;
+            Arrays.fill(padded, (byte) 0);
+            System.arraycopy(ROMAN_BYTES, ROMAN_OFFSETS[number], padded, 0, length);
+            WIDE[2 * number] = (long) LONG_VIEW.get(padded, 0);
+            WIDE[2 * number + 1] = (long) LONG_VIEW.get(padded, Long.BYTES);
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    public ArabicToRomanNumberBulkEncoderUseCase() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs both passes on {@code pool}, so that the parallelism can be chosen by the caller.
+     */
+    public ArabicToRomanNumberBulkEncoderUseCase(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public long encodedLength(int[] numbers, int count) {
+        Objects.checkFromIndexSize(0, count, numbers.length);
+        long[] blockLengths = blockLengths(numbers, count);
+        long total = 0;
+        for (long blockLength : blockLengths) {
+            total += blockLength;
+        }
+        return total;
+    }
+
+    @Override
+    public int encode(int[] numbers, int count, byte[] target, int[] offsets, long[] errors) {
+        int[] blockStarts = layout(numbers, count, target.length, offsets, errors);
+        return encodeBlocks(numbers, count, blockStarts, offsets, errors, (number, offset, limit) -> {
+            if (offset + WIDE_BYTES <= limit) {
+                LONG_VIEW.set(target, offset, WIDE[2 * number]);
+                LONG_VIEW.set(target, offset + Long.BYTES, WIDE[2 * number + 1]);
+            } else {
+                System.arraycopy(ROMAN_BYTES, ROMAN_OFFSETS[number], target, offset, LENGTHS[number]);
+            }
+        });
+    }
+
+    @Override
+    public int encode(int[] numbers, int count, ByteBuffer target, int[] offsets, long[] errors) {
+        int[] blockStarts = layout(numbers, count, target.capacity(), offsets, errors);
+        ByteBuffer view = target.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        return encodeBlocks(numbers, count, blockStarts, offsets, errors, (number, offset, limit) -> {
+            if (offset + WIDE_BYTES <= limit) {
+                view.putLong(offset, WIDE[2 * number]);
+                view.putLong(offset + Long.BYTES, WIDE[2 * number + 1]);
+            } else {
+                view.put(offset, ROMAN_BYTES, ROMAN_OFFSETS[number], LENGTHS[number]);
+            }
+        });
+    }
+
+    /**
+     * Checks the argument sizes and returns the start of every block in the target, followed by the total length.
+     */
+    private int[] layout(int[] numbers, int count, int capacity, int[] offsets, long[] errors) {
+        Objects.checkFromIndexSize(0, count, numbers.length);
+        if (offsets.length < count + 1) {
+            throw new IllegalArgumentException("Offsets need " + (count + 1) + " entries, but have " + offsets.length);
+        }
+        int words = (count + Long.SIZE - 1) / Long.SIZE;
+        if (errors.length < words) {
+            throw new IllegalArgumentException("Errors need " + words + " words, but have " + errors.length);
+        }
+        long[] blockLengths = blockLengths(numbers, count);
+        long[] starts = new long[blockLengths.length + 1];
+        for (int block = 0; block < blockLengths.length; block++) {
+            starts[block + 1] = starts[block] + blockLengths[block];
+        }
+        long total = starts[blockLengths.length];
+        if (total > capacity) {
+            throw new IllegalArgumentException("Target needs " + total + " bytes, but has " + capacity);
+        }
+        int[] blockStarts = new int[starts.length];
+        for (int block = 0; block < starts.length; block++) {
+            blockStarts[block] = (int) starts[block];
+        }
+        return blockStarts;
+    }
+
+    private int encodeBlocks(int[] numbers, int count, int[] blockStarts, int[] offsets, long[] errors,
+                             Copier copier) {
+        int blocks = blockStarts.length - 1;
+        int[] invalid = new int[blocks];
+        forEachBlock(blocks, block ->
+                invalid[block] = encodeBlock(numbers, count, block, blockStarts[block], blockStarts[block + 1],
+                        offsets, errors, copier));
+        offsets[count] = blockStarts[blocks];
+        int total = 0;
+        for (int blockInvalid : invalid) {
+            total += blockInvalid;
+        }
+        return total;
+    }
+
+    private long[] blockLengths(int[] numbers, int count) {
+        long[] blockLengths = new long[blockCount(count)];
+        forEachBlock(blockLengths.length, block -> {
+            long length = 0;
+            for (int i = block * BLOCK_SIZE, end = Math.min(i + BLOCK_SIZE, count); i < end; i++) {
+                length += lengthOf(numbers[i]);
+            }
+            blockLengths[block] = length;
+        });
+        return blockLengths;
+    }
+
+    /**
+     * @return the number of invalid numbers in the block
+     */
+    private static int encodeBlock(int[] numbers, int count, int block, int offset, int limit, int[] offsets,
+                                   long[] errors, Copier copier) {
+        int invalid = 0;
+        for (int i = block * BLOCK_SIZE, end = Math.min(i + BLOCK_SIZE, count); i < end; i++) {
+            int number = numbers[i];
+            offsets[i] = offset;
+            if (number < MIN_INT_VALUE || number > MAX_INT_VALUE) {
+                errors[i >>> 6] |= 1L << i;
+                invalid++;
+                continue;
+            }
+            errors[i >>> 6] &= ~(1L << i);
+            copier.copy(number, offset, limit);
+            offset += LENGTHS[number];
+        }
+        return invalid;
+    }
+
+    private void forEachBlock(int blocks, IntConsumer action) {
+        if (blocks <= 1) {
+            for (int block = 0; block < blocks; block++) {
+                action.accept(block);
+            }
+            return;
+        }
+        pool.invoke(new BlockTask(0, blocks, action));
+    }
+
+    private static int blockCount(int count) {
+        return (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private static int lengthOf(int number) {
+        return number < MIN_INT_VALUE || number > MAX_INT_VALUE ? 0 : LENGTHS[number];
+    }
+
+    @FunctionalInterface
+    private interface Copier {
+        /**
+         * Writes numeral {@code number} at {@code offset}, without touching the target at or after {@code limit}.
+         */
+        void copy(int number, int offset, int limit);
+    }
+
+    /**
+     * Splits a range of blocks in halves and runs {@code action} on each block.
+     */
+    private static final class BlockTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        private BlockTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BlockTask(from, middle, action), new BlockTask(middle, to, action));
+        }
+    }
+}
@@ -1,5 +1,32 @@
 package com.kata.romannumbers.application;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 public interface ArabicToRomanNumberConverter {
     String perform(Integer number);
+
+    /**
+     * Converts {@code number} reporting an out of range value in the result instead of throwing.
+     */
+    ConversionResult tryPerform(int number);
+
+    /**
+     * Appends the roman numeral of {@code number} to {@code destination}.
+     */
+    void perform(int number, Appendable destination) throws IOException;
+
+    /**
+     * Writes the roman numeral of {@code number} into {@code destination} starting at {@code offset}.
+     *
+     * @return the number of characters written
+     */
+    int perform(int number, char[] destination, int offset);
+
+    /**
+     * Writes the roman numeral of {@code number} as ASCII bytes at the position of {@code destination}.
+     *
+     * @return the number of bytes written
+     */
+    int perform(int number, ByteBuffer destination);
 }
@@ -4,58 +4,131 @@ import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 @Slf4j
 @Service
 public class ArabicToRomanNumberConverterUseCase implements ArabicToRomanNumberConverter {
 
-    private static final Integer MIN_INT_VALUE = 1;
-    private static final Integer MAX_INT_VALUE = 3999;
-    private static final Map<Integer, String> ARABIC_TO_ROMAN = new LinkedHashMap<>();
-
-    static {
-        ARABIC_TO_ROMAN.put(1000, "M");
-        ARABIC_TO_ROMAN.put(900, "CM");
-        ARABIC_TO_ROMAN.put(500, "D");
-        ARABIC_TO_ROMAN.put(400, "CD");
-        ARABIC_TO_ROMAN.put(100, "C");
-        ARABIC_TO_ROMAN.put(90, "XC");
-        ARABIC_TO_ROMAN.put(50, "L");
-        ARABIC_TO_ROMAN.put(40, "XL");
-        ARABIC_TO_ROMAN.put(10, "X");
-        ARABIC_TO_ROMAN.put(9, "IX");
-        ARABIC_TO_ROMAN.put(5, "V");
-        ARABIC_TO_ROMAN.put(4, "IV");
-        ARABIC_TO_ROMAN.put(1, "I");
-    }
+    static final int MIN_INT_VALUE = 1;
+    static final int MAX_INT_VALUE = 3999;
+
+    private static final int[] ARABIC_VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+    private static final String[] ROMAN_SYMBOLS = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+
+    /**
+     * Canonical roman numeral for every valid input, indexed by its arabic value.
+     * Built once at class load so each conversion is a single array lookup.
+     */
+    private static final String[] ROMAN_NUMBERS = buildRomanNumbers();
+
+    /**
+     * The same numerals as ASCII bytes laid out back to back; numeral {@code n} spans
+     * {@code ROMAN_BYTES[ROMAN_OFFSETS[n], ROMAN_OFFSETS[n + 1])}.
+     */
+    static final int[] ROMAN_OFFSETS = new int[MAX_INT_VALUE + 2];
+    static final byte[] ROMAN_BYTES = buildRomanBytes();
 
     @Override
     public String perform(Integer number) {
-        validateArabicNumber(number);
-        StringBuilder result = new StringBuilder();
-        Integer remaining = number;
+        ConversionEvent event = ConversionEvent.start();
+        validateArabicNumber(number, event);
+        event.arabicToRoman(number, null);
+        return ROMAN_NUMBERS[number];
+    }
+
+    @Override
+    public ConversionResult tryPerform(int number) {
+        ConversionEvent event = ConversionEvent.start();
+        if (number < MIN_INT_VALUE || number > MAX_INT_VALUE) {
+            event.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            return ConversionResult.failure(ConversionError.ARABIC_OUT_OF_RANGE);
+        }
+        event.arabicToRoman(number, null);
+        return ConversionResult.of(number);
+    }
+
+    @Override
+    public void perform(int number, Appendable destination) throws IOException {
+        ConversionEvent event = ConversionEvent.start();
+        validateArabicNumber(number, event);
+        destination.append(ROMAN_NUMBERS[number]);
+        event.arabicToRoman(number, null);
+    }
+
+    @Override
+    public int perform(int number, char[] destination, int offset) {
+        ConversionEvent event = ConversionEvent.start();
+        validateArabicNumber(number, event);
+        int start = ROMAN_OFFSETS[number];
+        int length = ROMAN_OFFSETS[number + 1] - start;
+        Objects.checkFromIndexSize(offset, length, destination.length);
+        for (int i = 0; i < length; i++) {
+            destination[offset + i] = (char) ROMAN_BYTES[start + i];
+        }
+        event.arabicToRoman(number, null);
+        return length;
+    }
+
+    @Override
+    public int perform(int number, ByteBuffer destination) {
+        ConversionEvent event = ConversionEvent.start();
+        validateArabicNumber(number, event);
+        int start = ROMAN_OFFSETS[number];
+        int length = ROMAN_OFFSETS[number + 1] - start;
+        destination.put(ROMAN_BYTES, start, length);
+        event.arabicToRoman(number, null);
+        return length;
+    }
+
+    /**
+     * Canonical roman numeral for a value already known to be within range.
+     */
+    static String romanNumberOf(int number) {
+        return ROMAN_NUMBERS[number];
+    }
 
-        for(Map.Entry<Integer, String> entry : ARABIC_TO_ROMAN.entrySet()) {
-            Integer value = entry.getKey();
-            String romanNumber = entry.getValue();
+    private static String[] buildRomanNumbers() {
+        String[] romanNumbers = new String[MAX_INT_VALUE + 1];
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            romanNumbers[number] = toRoman(number);
+        }
+        return romanNumbers;
+    }
+
+    private static byte[] buildRomanBytes() {
+        StringBuilder all = new StringBuilder();
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            ROMAN_OFFSETS[number] = all.length();
+            all.append(ROMAN_NUMBERS[number]);
+        }
+        ROMAN_OFFSETS[MAX_INT_VALUE + 1] = all.length();
+        return all.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String toRoman(int number) {
+        StringBuilder result = new StringBuilder();
+        int remaining = number;
 
-            while (remaining >= value) {
-                result.append(romanNumber);
-                remaining -= value;
+        for (int i = 0; i < ARABIC_VALUES.length; i++) {
+            while (remaining >= ARABIC_VALUES[i]) {
+                result.append(ROMAN_SYMBOLS[i]);
+                remaining -= ARABIC_VALUES[i];
             }
         }
 
         return result.toString();
     }
 
-    private void validateArabicNumber(Integer number) {
+    private void validateArabicNumber(int number, ConversionEvent event) {
         if (number < MIN_INT_VALUE || number > MAX_INT_VALUE) {
-            log.info("The number {} is out of range", number);
+            event.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            log.debug("The number {} is out of range", number);
             throw new InvalidArabicNumberException(
-                    String.format("Number must be between %d and %d, but was %d",
-                            MIN_INT_VALUE, MAX_INT_VALUE, number));
+                    String.format("%s, but was %d", ConversionError.ARABIC_OUT_OF_RANGE.message(), number));
         }
     }
 }
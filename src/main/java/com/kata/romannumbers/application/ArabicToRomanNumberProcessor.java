@@ -0,0 +1,34 @@
+package com.kata.romannumbers.application;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Streams arabic numbers into {@link ConversionResult}s with backpressure. Out of range numbers become
+ * failed results. See {@link ConversionProcessor} for the batching and signalling rules.
+ * <p>
+ * The drain task runs on the given executor; on Java 21 {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * gives every burst its own virtual thread.
+ */
+public class ArabicToRomanNumberProcessor extends ConversionProcessor<Integer> {
+
+    private final ArabicToRomanNumberConverter converter;
+
+    /**
+     * Drains on the common fork-join pool in batches of {@link Flow#defaultBufferSize()}.
+     */
+    public ArabicToRomanNumberProcessor(ArabicToRomanNumberConverter converter) {
+        this(converter, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    public ArabicToRomanNumberProcessor(ArabicToRomanNumberConverter converter, Executor executor, int batchSize) {
+        super(executor, batchSize);
+        this.converter = converter;
+    }
+
+    @Override
+    ConversionResult convert(Integer number) {
+        return converter.tryPerform(number);
+    }
+}
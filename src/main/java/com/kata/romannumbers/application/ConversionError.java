@@ -0,0 +1,17 @@
+package com.kata.romannumbers.application;
+
+public enum ConversionError {
+    ARABIC_OUT_OF_RANGE("Number must be between 1 and 3999"),
+    ROMAN_NULL_OR_EMPTY("Roman number cannot be null or empty"),
+    ROMAN_INVALID_FORMAT("Invalid roman number format");
+
+    private final String message;
+
+    ConversionError(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+}
@@ -0,0 +1,78 @@
+package com.kata.romannumbers.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a single conversion inside a use case.
+ * <p>
+ * Disabled unless a recording turns it on (see {@code jfr/roman-numbers.jfc}). While disabled,
+ * {@link #begin()} and {@link #shouldCommit()} reduce to a flag check and the instance does not
+ * escape, so the hot paths pay next to nothing. The fields are only filled in for events that
+ * pass the configured threshold.
+ */
+@Name(ConversionEvent.NAME)
+@Label("Roman Numeral Conversion")
+@Description("Conversion performed by a use case")
+@Category({"Roman Numbers", "Conversion"})
+@Enabled(false)
+@Threshold("0 ns")
+@StackTrace(false)
+final class ConversionEvent extends Event {
+
+    static final String NAME = "com.kata.romannumbers.Conversion";
+    static final String ARABIC_TO_ROMAN = "arabic-to-roman";
+    static final String ROMAN_TO_ARABIC = "roman-to-arabic";
+    static final String SUCCESS = "success";
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Input Length")
+    @Description("Decimal digits of the arabic number or characters of the roman numeral")
+    int inputLength;
+
+    @Label("Outcome")
+    @Description("success or the conversion error")
+    String outcome;
+
+    static ConversionEvent start() {
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    void arabicToRoman(int number, ConversionError error) {
+        end();
+        if (shouldCommit()) {
+            direction = ARABIC_TO_ROMAN;
+            inputLength = decimalLength(number);
+            outcome = error == null ? SUCCESS : error.name();
+            commit();
+        }
+    }
+
+    void romanToArabic(int length, ConversionError error) {
+        end();
+        if (shouldCommit()) {
+            direction = ROMAN_TO_ARABIC;
+            inputLength = length;
+            outcome = error == null ? SUCCESS : error.name();
+            commit();
+        }
+    }
+
+    private static int decimalLength(int number) {
+        int length = number < 0 ? 2 : 1;
+        for (long remaining = Math.abs((long) number); remaining >= 10; remaining /= 10) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,340 @@
+package com.kata.romannumbers.application;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link Flow.Processor} that converts every element it receives into a {@link ConversionResult}.
+ * <p>
+ * Upstream demand is requested in batches: {@code batchSize} elements up front and then again once
+ * three quarters of them have been consumed, never one at a time. Received elements wait in a
+ * single-producer single-consumer ring of that size. A drain task on the executor takes as many of them as
+ * the subscriber has asked for, converts them in one loop and emits the results, so a burst of signals
+ * costs one task instead of one per element. Only one drain runs at a time; signals arriving while it
+ * runs are picked up by the same task.
+ * <p>
+ * Invalid input is emitted as a failed result and the stream goes on. An upstream error is delivered
+ * after the elements already received, like completion. Protocol violations (a non-positive request, more
+ * elements than requested) and a rejected drain task end the stream at once with {@code onError}, dropping
+ * what is buffered; a rejection that happens before anyone subscribes is delivered to the subscriber when it
+ * arrives. A processor accepts a single subscriber.
+ */
+abstract class ConversionProcessor<T> implements Flow.Processor<T, ConversionResult> {
+
+    private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Executor executor;
+    private final int batchSize;
+    private final int replenishThreshold;
+
+    private final AtomicReferenceArray<T> ring;
+    private final int mask;
+    private long producerIndex;
+    private long consumerIndex;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super ConversionResult>> downstream = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger work = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile Throwable violation;
+    private volatile boolean cancelled;
+    // Set once onSubscribe has returned; until then drains leave the subscriber alone
+    private volatile boolean subscribed;
+    private volatile Throwable rejection;
+    private final AtomicBoolean rejectionDelivered = new AtomicBoolean();
+
+    // Only touched by the drain task
+    private final T[] batch;
+    private final ConversionResult[] results;
+    private int consumed;
+
+    @SuppressWarnings("unchecked")
+    ConversionProcessor(Executor executor, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, but was " + batchSize);
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.replenishThreshold = batchSize - (batchSize >> 2);
+        int capacity = Integer.highestOneBit(Math.max(1, batchSize - 1)) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.batch = (T[]) new Object[batchSize];
+        this.results = new ConversionResult[batchSize];
+    }
+
+    /**
+     * Converts one element. Invalid input must be reported as a failed result, not thrown.
+     */
+    abstract ConversionResult convert(T item);
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConversionResult> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new IllegalStateException("The processor only accepts one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Downstream());
+        subscribed = true;
+        if (rejection != null) {
+            // No drain runs again once one was rejected, so the rejection is all this subscriber gets
+            deliverRejection();
+        } else {
+            drain();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item");
+        if (done) {
+            return;
+        }
+        int slot = (int) producerIndex & mask;
+        if (ring.get(slot) != null) {
+            fail(new IllegalStateException("Received more elements than requested"));
+            return;
+        }
+        ring.lazySet(slot, item);
+        producerIndex++;
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable");
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (work.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drainLoop);
+        } catch (RejectedExecutionException ex) {
+            // The work counter stays raised, so this is the last signal the subscriber gets
+            rejection = ex;
+            done = true;
+            cancelUpstream();
+            deliverRejection();
+        }
+    }
+
+    /**
+     * Sends the rejection to the subscriber, once. Called both after a rejection and after a subscription, so
+     * whichever of the two happens last finds the other in place.
+     */
+    private void deliverRejection() {
+        if (subscribed && rejectionDelivered.compareAndSet(false, true)) {
+            downstream.get().onError(rejection);
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super ConversionResult> subscriber = subscribed ? downstream.get() : null;
+            if (subscriber != null) {
+                try {
+                    if (!emit(subscriber)) {
+                        return;
+                    }
+                } catch (RuntimeException ex) {
+                    // A subscriber must not throw; treat it as a cancellation
+                    cancelled = true;
+                    cancelUpstream();
+                    clear();
+                    return;
+                }
+            }
+            missed = work.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Emits as much as the current demand allows.
+     *
+     * @return {@code false} once the stream is over, which leaves the work counter raised so no drain runs again
+     */
+    private boolean emit(Flow.Subscriber<? super ConversionResult> subscriber) {
+        long demand = requested.get();
+        long emitted = 0;
+
+        while (true) {
+            if (cancelled) {
+                clear();
+                return false;
+            }
+            Throwable failure = violation;
+            if (failure != null) {
+                clear();
+                subscriber.onError(failure);
+                return false;
+            }
+            boolean terminated = done;
+            int count = emitted == demand ? 0 : poll((int) Math.min(demand - emitted, batchSize));
+            if (count == 0) {
+                if (terminated && isEmpty()) {
+                    terminate(subscriber);
+                    return false;
+                }
+                break;
+            }
+
+            for (int i = 0; i < count; i++) {
+                results[i] = convert(batch[i]);
+                batch[i] = null;
+            }
+            for (int i = 0; i < count && !cancelled; i++) {
+                subscriber.onNext(results[i]);
+            }
+            emitted += count;
+            replenish(count);
+        }
+
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+        return true;
+    }
+
+    private int poll(int max) {
+        int count = 0;
+        while (count < max) {
+            int slot = (int) consumerIndex & mask;
+            T item = ring.get(slot);
+            if (item == null) {
+                break;
+            }
+            ring.lazySet(slot, null);
+            consumerIndex++;
+            batch[count++] = item;
+        }
+        return count;
+    }
+
+    private boolean isEmpty() {
+        return ring.get((int) consumerIndex & mask) == null;
+    }
+
+    private void replenish(int count) {
+        consumed += count;
+        if (consumed >= replenishThreshold && !done) {
+            upstream.get().request(consumed);
+            consumed = 0;
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super ConversionResult> subscriber) {
+        Throwable failure = error;
+        if (failure == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(failure);
+        }
+    }
+
+    private void clear() {
+        while (poll(batchSize) > 0) {
+            Arrays.fill(batch, null);
+        }
+    }
+
+    private void fail(Throwable failure) {
+        violation = failure;
+        done = true;
+        cancelUpstream();
+        drain();
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream.getAndSet(CANCELLED);
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private final class Downstream implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("The requested amount must be positive, but was " + n));
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+                next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+            } while (!requested.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.kata.romannumbers.application;
+
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MAX_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MIN_INT_VALUE;
+
+/**
+ * Outcome of a conversion that reports invalid input without throwing.
+ * <p>
+ * Every possible result is created once at class load: one per valid value, holding both
+ * representations, and one per {@link ConversionError}. Returning a result never allocates.
+ */
+public record ConversionResult(int arabic, String roman, ConversionError error) {
+
+    private static final ConversionResult[] VALID_RESULTS = new ConversionResult[MAX_INT_VALUE + 1];
+    private static final ConversionResult[] FAILURES = new ConversionResult[ConversionError.values().length];
+
+    static {
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            VALID_RESULTS[number] = new ConversionResult(number,
+                    ArabicToRomanNumberConverterUseCase.romanNumberOf(number), null);
+        }
+        for (ConversionError error : ConversionError.values()) {
+            FAILURES[error.ordinal()] = new ConversionResult(0, null, error);
+        }
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    static ConversionResult of(int number) {
+        return VALID_RESULTS[number];
+    }
+
+    static ConversionResult failure(ConversionError error) {
+        return FAILURES[error.ordinal()];
+    }
+}
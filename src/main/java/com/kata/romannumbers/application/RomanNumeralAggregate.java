@@ -0,0 +1,104 @@
+package com.kata.romannumbers.application;
+
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MAX_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MIN_INT_VALUE;
+
+/**
+ * Count, sum, minimum, maximum and value histogram of a set of roman numerals.
+ * <p>
+ * The histogram splits 1..3999 into buckets of {@code bucketSize} values; bucket {@code i} holds the
+ * values {@code [i * bucketSize + 1, (i + 1) * bucketSize]}. Partial aggregates of disjoint parts of the
+ * input are combined with {@link #merge(RomanNumeralAggregate)}. Instances are not thread-safe.
+ */
+public final class RomanNumeralAggregate {
+
+    private final int bucketSize;
+    private final long[] histogram;
+    private long count;
+    private long invalid;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public RomanNumeralAggregate(int bucketSize) {
+        if (bucketSize < MIN_INT_VALUE || bucketSize > MAX_INT_VALUE) {
+            throw new IllegalArgumentException(String.format("Bucket size must be between %d and %d",
+                    MIN_INT_VALUE, MAX_INT_VALUE));
+        }
+        this.bucketSize = bucketSize;
+        this.histogram = new long[(MAX_INT_VALUE + bucketSize - 1) / bucketSize];
+    }
+
+    void add(int value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        histogram[(value - 1) / bucketSize]++;
+    }
+
+    void addInvalid() {
+        invalid++;
+    }
+
+    RomanNumeralAggregate merge(RomanNumeralAggregate other) {
+        count += other.count;
+        invalid += other.invalid;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Number of valid numerals.
+     */
+    public long count() {
+        return count;
+    }
+
+    public long invalid() {
+        return invalid;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Smallest value, or {@code 0} when there is no valid numeral.
+     */
+    public int min() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Largest value, or {@code 0} when there is no valid numeral.
+     */
+    public int max() {
+        return count == 0 ? 0 : max;
+    }
+
+    public int bucketSize() {
+        return bucketSize;
+    }
+
+    public int bucketCount() {
+        return histogram.length;
+    }
+
+    public long bucket(int index) {
+        return histogram[index];
+    }
+
+    public int bucketFrom(int index) {
+        return index * bucketSize + 1;
+    }
+
+    public int bucketTo(int index) {
+        return Math.min((index + 1) * bucketSize, MAX_INT_VALUE);
+    }
+}
@@ -0,0 +1,158 @@
+package com.kata.romannumbers.application;
+
+import java.util.Arrays;
+
+/**
+ * Deterministic finite-state parser for canonical roman numerals (1 to 3999).
+ * <p>
+ * The transition table is generated once at class load from the decade structure of the numerals
+ * (thousands, hundreds, tens and units). Each transition carries the amount it adds to the result,
+ * so validation and accumulation happen in a single left-to-right pass without allocating.
+ * Upper and lower case symbols are accepted.
+ */
+final class RomanNumeralAutomaton {
+
+    private static final int REJECT = -1;
+    private static final int START = 0;
+
+    private static final char[] SYMBOLS = {'I', 'V', 'X', 'L', 'C', 'D', 'M'};
+    private static final int SYMBOL_COUNT = SYMBOLS.length;
+    private static final int DECADE_COUNT = 4;
+
+    // Per-decade states, relative to the first state of the decade
+    private static final int ONE = 0;
+    private static final int TWO_ONES = 1;
+    private static final int THREE_ONES = 2;
+    private static final int FIVE = 3;
+    private static final int FIVE_ONE = 4;
+    private static final int FIVE_TWO_ONES = 5;
+    private static final int FIVE_THREE_ONES = 6;
+    private static final int ONE_FIVE = 7;
+    private static final int ONE_TEN = 8;
+    private static final int STATES_PER_DECADE = 9;
+
+    private static final int STATE_COUNT = 1 + DECADE_COUNT * STATES_PER_DECADE;
+
+    private static final byte[] SYMBOL_CLASS = new byte[128];
+    private static final int[] NEXT_STATE = new int[STATE_COUNT * SYMBOL_COUNT];
+    private static final int[] INCREMENT = new int[STATE_COUNT * SYMBOL_COUNT];
+
+    static {
+        Arrays.fill(SYMBOL_CLASS, (byte) REJECT);
+        for (int symbol = 0; symbol < SYMBOL_COUNT; symbol++) {
+            SYMBOL_CLASS[SYMBOLS[symbol]] = (byte) symbol;
+            SYMBOL_CLASS[Character.toLowerCase(SYMBOLS[symbol])] = (byte) symbol;
+        }
+        Arrays.fill(NEXT_STATE, REJECT);
+        buildTransitions();
+    }
+
+    private RomanNumeralAutomaton() {
+    }
+
+    /**
+     * Parses {@code input[from, to)} as a canonical roman numeral.
+     *
+     * @return the arabic value when the input is valid, otherwise {@code -(index + 1)} where
+     * {@code index} is the position of the first offending character, or {@code to} for an empty range
+     */
+    static int parse(CharSequence input, int from, int to) {
+        int state = START;
+        int value = 0;
+
+        for (int i = from; i < to; i++) {
+            char current = input.charAt(i);
+            int symbol = current < 128 ? SYMBOL_CLASS[current] : REJECT;
+            if (symbol == REJECT) {
+                return -(i + 1);
+            }
+            int transition = state * SYMBOL_COUNT + symbol;
+            int next = NEXT_STATE[transition];
+            if (next == REJECT) {
+                return -(i + 1);
+            }
+            value += INCREMENT[transition];
+            state = next;
+        }
+
+        return state == START ? -(to + 1) : value;
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence, int, int)} for ASCII bytes.
+     */
+    static int parse(byte[] input, int from, int to) {
+        int state = START;
+        int value = 0;
+
+        for (int i = from; i < to; i++) {
+            byte current = input[i];
+            int symbol = current >= 0 ? SYMBOL_CLASS[current] : REJECT;
+            if (symbol == REJECT) {
+                return -(i + 1);
+            }
+            int transition = state * SYMBOL_COUNT + symbol;
+            int next = NEXT_STATE[transition];
+            if (next == REJECT) {
+                return -(i + 1);
+            }
+            value += INCREMENT[transition];
+            state = next;
+        }
+
+        return state == START ? -(to + 1) : value;
+    }
+
+    private static void buildTransitions() {
+        // Decade 3 holds the thousands; only its ONE symbol (M) exists
+        for (int decade = DECADE_COUNT - 1; decade >= 0; decade--) {
+            int one = 2 * decade;
+            int five = one + 1;
+            int ten = one + 2;
+            int unit = pow10(decade);
+            int base = decadeBase(decade);
+            boolean hasFiveAndTen = decade < DECADE_COUNT - 1;
+
+            // Entering this decade from the start or from any state of a higher decade
+            for (int state = 0; state < STATE_COUNT; state++) {
+                if (state == START || decadeOf(state) > decade) {
+                    transition(state, one, base + ONE, unit);
+                    if (hasFiveAndTen) {
+                        transition(state, five, base + FIVE, 5 * unit);
+                    }
+                }
+            }
+
+            transition(base + ONE, one, base + TWO_ONES, unit);
+            transition(base + TWO_ONES, one, base + THREE_ONES, unit);
+            if (hasFiveAndTen) {
+                transition(base + ONE, five, base + ONE_FIVE, 3 * unit);
+                transition(base + ONE, ten, base + ONE_TEN, 8 * unit);
+                transition(base + FIVE, one, base + FIVE_ONE, unit);
+                transition(base + FIVE_ONE, one, base + FIVE_TWO_ONES, unit);
+                transition(base + FIVE_TWO_ONES, one, base + FIVE_THREE_ONES, unit);
+            }
+        }
+    }
+
+    private static void transition(int from, int symbol, int to, int increment) {
+        NEXT_STATE[from * SYMBOL_COUNT + symbol] = to;
+        INCREMENT[from * SYMBOL_COUNT + symbol] = increment;
+    }
+
+    private static int decadeBase(int decade) {
+        return 1 + (DECADE_COUNT - 1 - decade) * STATES_PER_DECADE;
+    }
+
+    private static int decadeOf(int state) {
+        return DECADE_COUNT - 1 - (state - 1) / STATES_PER_DECADE;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
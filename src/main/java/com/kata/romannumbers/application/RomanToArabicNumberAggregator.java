@@ -0,0 +1,26 @@
+package com.kata.romannumbers.application;
+
+import java.io.IOException;
+
+public interface RomanToArabicNumberAggregator {
+
+    /**
+     * Supplies the numerals to aggregate a chunk at a time.
+     */
+    @FunctionalInterface
+    interface NumeralSource {
+
+        /**
+         * Fills {@code chunk} from index 0 with the next numerals; {@code null} entries count as invalid.
+         *
+         * @return the number of numerals written, {@code 0} once the source is exhausted
+         */
+        int read(CharSequence[] chunk) throws IOException;
+    }
+
+    /**
+     * Aggregates every numeral of {@code source}. Memory use is bounded by the chunk size, whatever the
+     * size of the input.
+     */
+    RomanNumeralAggregate aggregate(NumeralSource source, int bucketSize) throws IOException;
+}
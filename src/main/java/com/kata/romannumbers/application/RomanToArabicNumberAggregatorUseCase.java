@@ -0,0 +1,86 @@
+package com.kata.romannumbers.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Decodes chunks of numerals in parallel on the common fork-join pool.
+ * <p>
+ * Two chunk buffers alternate: while the pool decodes one, the caller's thread fills the other from the
+ * source, so reading the input overlaps with decoding and at most two chunks are held at any time. Each chunk
+ * is split in halves down to {@value #SPLIT_THRESHOLD} numerals, and the partial aggregates are merged on join.
+ */
+@Service
+@RequiredArgsConstructor
+public class RomanToArabicNumberAggregatorUseCase implements RomanToArabicNumberAggregator {
+
+    static final int CHUNK_SIZE = 16_384;
+    static final int SPLIT_THRESHOLD = 1_024;
+
+    private final RomanToArabicNumberConverter converter;
+
+    @Override
+    public RomanNumeralAggregate aggregate(NumeralSource source, int bucketSize) throws IOException {
+        RomanNumeralAggregate total = new RomanNumeralAggregate(bucketSize);
+        CharSequence[] filling = new CharSequence[CHUNK_SIZE];
+        CharSequence[] decoding = new CharSequence[CHUNK_SIZE];
+        ForkJoinTask<RomanNumeralAggregate> pending = null;
+
+        int count;
+        while ((count = source.read(filling)) > 0) {
+            if (pending != null) {
+                total.merge(pending.join());
+            }
+            pending = ForkJoinPool.commonPool().submit(new AggregationTask(filling, 0, count, bucketSize));
+            CharSequence[] decoded = decoding;
+            decoding = filling;
+            filling = decoded;
+        }
+        if (pending != null) {
+            total.merge(pending.join());
+        }
+        return total;
+    }
+
+    private final class AggregationTask extends RecursiveTask<RomanNumeralAggregate> {
+
+        private final CharSequence[] numerals;
+        private final int from;
+        private final int to;
+        private final int bucketSize;
+
+        private AggregationTask(CharSequence[] numerals, int from, int to, int bucketSize) {
+            this.numerals = numerals;
+            this.from = from;
+            this.to = to;
+            this.bucketSize = bucketSize;
+        }
+
+        @Override
+        protected RomanNumeralAggregate compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                RomanNumeralAggregate aggregate = new RomanNumeralAggregate(bucketSize);
+                for (int i = from; i < to; i++) {
+                    ConversionResult result = converter.tryPerform(numerals[i]);
+                    if (result.isValid()) {
+                        aggregate.add(result.arabic());
+                    } else {
+                        aggregate.addInvalid();
+                    }
+                    numerals[i] = null;
+                }
+                return aggregate;
+            }
+            int middle = (from + to) >>> 1;
+            AggregationTask left = new AggregationTask(numerals, from, middle, bucketSize);
+            left.fork();
+            RomanNumeralAggregate right = new AggregationTask(numerals, middle, to, bucketSize).compute();
+            return left.join().merge(right);
+        }
+    }
+}
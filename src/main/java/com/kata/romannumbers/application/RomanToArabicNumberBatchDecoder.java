@@ -0,0 +1,16 @@
+package com.kata.romannumbers.application;
+
+public interface RomanToArabicNumberBatchDecoder {
+
+    /**
+     * Decodes {@code count} ASCII roman numerals packed in {@code source}, numeral {@code i} spanning
+     * {@code source[offsets[i], offsets[i + 1])}.
+     * <p>
+     * The value of numeral {@code i} is written to {@code results[i]}. Invalid numerals get {@code 0}
+     * and have bit {@code i} set in {@code errors} (bit {@code i % 64} of word {@code i / 64}); the
+     * bits of valid numerals are cleared.
+     *
+     * @return the number of invalid numerals
+     */
+    int decode(byte[] source, int[] offsets, int count, int[] results, long[] errors);
+}
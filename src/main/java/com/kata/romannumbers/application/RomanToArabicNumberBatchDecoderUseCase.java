@@ -0,0 +1,169 @@
+package com.kata.romannumbers.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MAX_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MIN_INT_VALUE;
+
+/**
+ * Batch decoder working on whole 64-bit words (SWAR) instead of single characters.
+ * <p>
+ * A canonical numeral has at most 15 symbols, so it fits in two little-endian words. Each numeral is
+ * loaded with two unaligned reads, masked to its length and case-folded for eight characters at a
+ * time. The words are then looked up in a perfect hash built at class load over the 3999 canonical
+ * numerals: a single comparison of the stored words validates every character, and the slot holds
+ * the value. Numerals whose words would read past the end of the source fall back to the
+ * finite-state parser.
+ */
+@Service
+@ConditionalOnProperty(name = "roman-numbers.converter.batch-decoder", havingValue = "swar", matchIfMissing = true)
+public class RomanToArabicNumberBatchDecoderUseCase implements RomanToArabicNumberBatchDecoder {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int MAX_ROMAN_LENGTH = 15;
+    private static final int BUCKET_COUNT = 1024;
+    private static final int SLOT_COUNT = 4096;
+    // Clears bit 5 of every byte, turning lower case letters into upper case
+    private static final long CASE_MASK = 0xDFDFDFDFDFDFDFDFL;
+    // The high word holds at most seven symbols, leaving its top byte for the length
+    private static final int LENGTH_SHIFT = 56;
+
+    private static final int[] DISPLACEMENTS = new int[BUCKET_COUNT];
+    private static final long[] LOW_WORDS = new long[SLOT_COUNT];
+    private static final long[] HIGH_WORDS = new long[SLOT_COUNT];
+    private static final int[] VALUES = new int[SLOT_COUNT];
+
+    static {
+        buildIndex();
+    }
+
+    @Override
+    public int decode(byte[] source, int[] offsets, int count, int[] results, long[] errors) {
+        int invalid = 0;
+        for (int i = 0; i < count; i++) {
+            int value = decode(source, offsets[i], offsets[i + 1]);
+            results[i] = value;
+            if (value == 0) {
+                errors[i >>> 6] |= 1L << i;
+                invalid++;
+            } else {
+                errors[i >>> 6] &= ~(1L << i);
+            }
+        }
+        return invalid;
+    }
+
+    private static int decode(byte[] source, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > MAX_ROMAN_LENGTH) {
+            return 0;
+        }
+        if (from + 2 * Long.BYTES > source.length) {
+            return Math.max(RomanNumeralAutomaton.parse(source, from, to), 0);
+        }
+        return lookup(source, from, length);
+    }
+
+    /**
+     * @return the arabic value of {@code source[offset, offset + length)}, or {@code 0} when it is not
+     * a canonical roman numeral; {@code source} must hold 16 readable bytes from {@code offset}
+     */
+    static int lookup(byte[] source, int offset, int length) {
+        long low = (long) LONG_VIEW.get(source, offset) & CASE_MASK;
+        long high = (long) LONG_VIEW.get(source, offset + Long.BYTES) & CASE_MASK;
+        if (length <= Long.BYTES) {
+            low &= -1L >>> (Long.SIZE - Byte.SIZE * length);
+            high = 0;
+        } else {
+            high &= -1L >>> (Long.SIZE - Byte.SIZE * (length - Long.BYTES));
+        }
+        // Folding maps some non-letters to zero, so the length tells them apart from the padding
+        high |= (long) length << LENGTH_SHIFT;
+
+        int bucket = hash(low, high, 0) & (BUCKET_COUNT - 1);
+        int slot = hash(low, high, DISPLACEMENTS[bucket]) & (SLOT_COUNT - 1);
+        return LOW_WORDS[slot] == low && HIGH_WORDS[slot] == high ? VALUES[slot] : 0;
+    }
+
+    private static int hash(long low, long high, int seed) {
+        long hash = (low + seed) * 0x9E3779B97F4A7C15L ^ high * 0xC2B2AE3D27D4EB4FL;
+        hash = (hash ^ (hash >>> 29)) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long[] wordsOf(int number) {
+        String roman = ArabicToRomanNumberConverterUseCase.romanNumberOf(number);
+        long[] words = new long[2];
+        for (int i = 0; i < roman.length(); i++) {
+            words[i / Long.BYTES] |= (long) roman.charAt(i) << (Byte.SIZE * (i % Long.BYTES));
+        }
+        words[1] |= (long) roman.length() << LENGTH_SHIFT;
+        return words;
+    }
+
+    private static void buildIndex() {
+        List<List<long[]>> buckets = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            long[] words = wordsOf(number);
+            buckets.get(hash(words[0], words[1], 0) & (BUCKET_COUNT - 1))
+                    .add(new long[]{words[0], words[1], number});
+        }
+
+        List<Integer> order = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            order.add(bucket);
+        }
+        order.sort(Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        for (int bucket : order) {
+            List<long[]> entries = buckets.get(bucket);
+            if (!entries.isEmpty()) {
+                DISPLACEMENTS[bucket] = place(entries);
+            }
+        }
+    }
+
+    private static int place(List<long[]> entries) {
+        int[] slots = new int[entries.size()];
+        for (int displacement = 1; ; displacement++) {
+            if (tryPlace(entries, displacement, slots)) {
+                for (int i = 0; i < slots.length; i++) {
+                    long[] entry = entries.get(i);
+                    LOW_WORDS[slots[i]] = entry[0];
+                    HIGH_WORDS[slots[i]] = entry[1];
+                    VALUES[slots[i]] = (int) entry[2];
+                }
+                return displacement;
+            }
+        }
+    }
+
+    private static boolean tryPlace(List<long[]> entries, int displacement, int[] slots) {
+        for (int i = 0; i < slots.length; i++) {
+            long[] entry = entries.get(i);
+            int slot = hash(entry[0], entry[1], displacement) & (SLOT_COUNT - 1);
+            if (VALUES[slot] != 0) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+}
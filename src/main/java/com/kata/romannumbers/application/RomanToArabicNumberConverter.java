@@ -2,4 +2,19 @@ package com.kata.romannumbers.application;
 
 public interface RomanToArabicNumberConverter {
     Integer perform(String number);
+
+    /**
+     * Converts {@code number} reporting invalid input in the result instead of throwing.
+     */
+    ConversionResult tryPerform(CharSequence number);
+
+    /**
+     * Decodes a roman numeral in either case without boxing the result.
+     */
+    int decode(CharSequence number);
+
+    /**
+     * Decodes a roman numeral stored as ASCII bytes in {@code source[offset, offset + length)}.
+     */
+    int decode(byte[] source, int offset, int length);
 }
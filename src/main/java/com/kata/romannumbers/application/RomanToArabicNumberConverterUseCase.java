@@ -2,69 +2,84 @@ package com.kata.romannumbers.application;
 
 import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "roman-numbers.converter.roman-to-arabic", havingValue = "parser", matchIfMissing = true)
 public class RomanToArabicNumberConverterUseCase implements RomanToArabicNumberConverter {
 
-    private static final Pattern VALID_ROMAN_PATTERN = Pattern.compile(
-            "^M{0,3}(CM|CD|D?C{0,3})(XC|XL|L?X{0,3})(IX|IV|V?I{0,3})$"
-    );
-
-    private static final Map<Character, Integer> ROMAN_TO_ARABIC = Map.of(
-            'I', 1,
-            'V', 5,
-            'X', 10,
-            'L', 50,
-            'C', 100,
-            'D', 500,
-            'M', 1000
-    );
-
     @Override
     public Integer perform(String number) {
-        validateRomanNumber(number);
-
-        String normalizedRomanNumber = number.toUpperCase();
-        int result = 0;
-        int prevValue = 0;
+        return decode(number);
+    }
 
-        for (int i = normalizedRomanNumber.length() - 1; i >= 0; i--) {
-            char currentChar = normalizedRomanNumber.charAt(i);
-            Integer currentValue = ROMAN_TO_ARABIC.get(currentChar);
+    @Override
+    public ConversionResult tryPerform(CharSequence number) {
+        ConversionEvent event = ConversionEvent.start();
+        if (number == null || number.isEmpty()) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            return ConversionResult.failure(ConversionError.ROMAN_NULL_OR_EMPTY);
+        }
 
-            if (currentValue == null) {
-                log.info("Invalid character {} in roman number", currentChar);
-                throw new InvalidRomanNumberException(
-                        String.format("Invalid character '%c' in roman number", currentChar));
-            }
+        int result = RomanNumeralAutomaton.parse(number, 0, number.length());
+        if (result < 0) {
+            event.romanToArabic(number.length(), ConversionError.ROMAN_INVALID_FORMAT);
+            return ConversionResult.failure(ConversionError.ROMAN_INVALID_FORMAT);
+        }
+        event.romanToArabic(number.length(), null);
+        return ConversionResult.of(result);
+    }
 
-            if (currentValue < prevValue) {
-                result -= currentValue;
-            } else {
-                result += currentValue;
-            }
+    @Override
+    public int decode(CharSequence number) {
+        ConversionEvent event = ConversionEvent.start();
+        if (number == null || number.isEmpty()) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            throw emptyRomanNumber(number);
+        }
 
-            prevValue = currentValue;
+        int result = RomanNumeralAutomaton.parse(number, 0, number.length());
+        if (result < 0) {
+            event.romanToArabic(number.length(), ConversionError.ROMAN_INVALID_FORMAT);
+            throw invalidRomanNumber(number.toString(), -result - 1);
         }
 
+        event.romanToArabic(number.length(), null);
         return result;
     }
 
-    private void validateRomanNumber(String romanNumber) {
-        if (romanNumber == null || romanNumber.isEmpty()) {
-            log.info("The roman number {} is null or empty", romanNumber);
-            throw new InvalidRomanNumberException("Roman number cannot be null or empty");
+    @Override
+    public int decode(byte[] source, int offset, int length) {
+        ConversionEvent event = ConversionEvent.start();
+        if (length == 0) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            throw emptyRomanNumber("");
         }
 
-        if (!VALID_ROMAN_PATTERN.matcher(romanNumber.toUpperCase()).matches()) {
-            log.info("The roman number {} has invalid format", romanNumber);
-            throw new InvalidRomanNumberException(
-                    String.format("Invalid roman number format: %s", romanNumber));
+        int result = RomanNumeralAutomaton.parse(source, offset, offset + length);
+        if (result < 0) {
+            event.romanToArabic(length, ConversionError.ROMAN_INVALID_FORMAT);
+            throw invalidRomanNumber(new String(source, offset, length, StandardCharsets.ISO_8859_1),
+                    -result - 1 - offset);
         }
+
+        event.romanToArabic(length, null);
+        return result;
+    }
+
+    private InvalidRomanNumberException emptyRomanNumber(CharSequence number) {
+        log.debug("The roman number {} is null or empty", number);
+        return new InvalidRomanNumberException(ConversionError.ROMAN_NULL_OR_EMPTY.message());
+    }
+
+    private InvalidRomanNumberException invalidRomanNumber(String number, int position) {
+        log.debug("The roman number {} has invalid format at position {}", number, position);
+        return new InvalidRomanNumberException(
+                String.format("%s: %s (unexpected '%c' at position %d)",
+                        ConversionError.ROMAN_INVALID_FORMAT.message(), number, number.charAt(position), position));
     }
 }
@@ -0,0 +1,34 @@
+package com.kata.romannumbers.application;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Streams roman numerals into {@link ConversionResult}s with backpressure. Empty or malformed numerals
+ * become failed results. See {@link ConversionProcessor} for the batching and signalling rules.
+ * <p>
+ * The drain task runs on the given executor; on Java 21 {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * gives every burst its own virtual thread.
+ */
+public class RomanToArabicNumberProcessor extends ConversionProcessor<CharSequence> {
+
+    private final RomanToArabicNumberConverter converter;
+
+    /**
+     * Drains on the common fork-join pool in batches of {@link Flow#defaultBufferSize()}.
+     */
+    public RomanToArabicNumberProcessor(RomanToArabicNumberConverter converter) {
+        this(converter, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    public RomanToArabicNumberProcessor(RomanToArabicNumberConverter converter, Executor executor, int batchSize) {
+        super(executor, batchSize);
+        this.converter = converter;
+    }
+
+    @Override
+    ConversionResult convert(CharSequence number) {
+        return converter.tryPerform(number);
+    }
+}
@@ -0,0 +1,226 @@
+package com.kata.romannumbers.application;
+
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MAX_INT_VALUE;
+import static com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase.MIN_INT_VALUE;
+
+/**
+ * Roman to arabic converter backed by a perfect hash over the 3999 canonical numerals.
+ * <p>
+ * The index is built at class load with the hash-and-displace technique: every key is first hashed
+ * into a bucket, and each bucket gets the displacement seed that places all of its keys into free
+ * slots. A lookup is therefore two hashes and one comparison against the stored key, whatever the input.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "roman-numbers.converter.roman-to-arabic", havingValue = "reverse-index")
+public class RomanToArabicNumberReverseIndexUseCase implements RomanToArabicNumberConverter {
+
+    private static final int MAX_ROMAN_LENGTH = 15;
+    private static final int BUCKET_COUNT = 1024;
+    private static final int SLOT_COUNT = 4096;
+    private static final int CASE_MASK = 0xFFDF;
+
+    private static final int[] DISPLACEMENTS = new int[BUCKET_COUNT];
+    private static final String[] KEYS = new String[SLOT_COUNT];
+    private static final int[] VALUES = new int[SLOT_COUNT];
+
+    static {
+        buildIndex();
+    }
+
+    @Override
+    public Integer perform(String number) {
+        return decode(number);
+    }
+
+    @Override
+    public ConversionResult tryPerform(CharSequence number) {
+        ConversionEvent event = ConversionEvent.start();
+        if (number == null || number.isEmpty()) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            return ConversionResult.failure(ConversionError.ROMAN_NULL_OR_EMPTY);
+        }
+
+        int result = lookup(number);
+        if (result == 0) {
+            event.romanToArabic(number.length(), ConversionError.ROMAN_INVALID_FORMAT);
+            return ConversionResult.failure(ConversionError.ROMAN_INVALID_FORMAT);
+        }
+        event.romanToArabic(number.length(), null);
+        return ConversionResult.of(result);
+    }
+
+    @Override
+    public int decode(CharSequence number) {
+        ConversionEvent event = ConversionEvent.start();
+        if (number == null || number.isEmpty()) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            throw emptyRomanNumber(number);
+        }
+
+        int result = lookup(number);
+        if (result == 0) {
+            event.romanToArabic(number.length(), ConversionError.ROMAN_INVALID_FORMAT);
+            throw invalidRomanNumber(number.toString());
+        }
+
+        event.romanToArabic(number.length(), null);
+        return result;
+    }
+
+    @Override
+    public int decode(byte[] source, int offset, int length) {
+        ConversionEvent event = ConversionEvent.start();
+        if (length == 0) {
+            event.romanToArabic(0, ConversionError.ROMAN_NULL_OR_EMPTY);
+            throw emptyRomanNumber("");
+        }
+
+        int result = lookup(source, offset, length);
+        if (result == 0) {
+            event.romanToArabic(length, ConversionError.ROMAN_INVALID_FORMAT);
+            throw invalidRomanNumber(new String(source, offset, length, StandardCharsets.ISO_8859_1));
+        }
+
+        event.romanToArabic(length, null);
+        return result;
+    }
+
+    /**
+     * @return the arabic value of {@code input}, or {@code 0} when it is not a canonical roman numeral
+     */
+    static int lookup(CharSequence input) {
+        int length = input.length();
+        if (length == 0 || length > MAX_ROMAN_LENGTH) {
+            return 0;
+        }
+
+        int bucket = hash(input, 0) & (BUCKET_COUNT - 1);
+        int slot = hash(input, DISPLACEMENTS[bucket]) & (SLOT_COUNT - 1);
+        String key = KEYS[slot];
+        if (key == null || key.length() != length) {
+            return 0;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if ((input.charAt(i) & CASE_MASK) != key.charAt(i)) {
+                return 0;
+            }
+        }
+        return VALUES[slot];
+    }
+
+    /**
+     * Same as {@link #lookup(CharSequence)} for ASCII bytes in {@code source[offset, offset + length)}.
+     */
+    static int lookup(byte[] source, int offset, int length) {
+        if (length == 0 || length > MAX_ROMAN_LENGTH) {
+            return 0;
+        }
+
+        int bucket = hash(source, offset, length, 0) & (BUCKET_COUNT - 1);
+        int slot = hash(source, offset, length, DISPLACEMENTS[bucket]) & (SLOT_COUNT - 1);
+        String key = KEYS[slot];
+        if (key == null || key.length() != length) {
+            return 0;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (((source[offset + i] & 0xFF) & CASE_MASK) != key.charAt(i)) {
+                return 0;
+            }
+        }
+        return VALUES[slot];
+    }
+
+    private InvalidRomanNumberException emptyRomanNumber(CharSequence number) {
+        log.debug("The roman number {} is null or empty", number);
+        return new InvalidRomanNumberException(ConversionError.ROMAN_NULL_OR_EMPTY.message());
+    }
+
+    private InvalidRomanNumberException invalidRomanNumber(String number) {
+        log.debug("The roman number {} has invalid format", number);
+        return new InvalidRomanNumberException(
+                String.format("%s: %s", ConversionError.ROMAN_INVALID_FORMAT.message(), number));
+    }
+
+    private static int hash(byte[] source, int offset, int length, int seed) {
+        int hash = 0x811C9DC5 ^ seed;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ ((source[i] & 0xFF) & CASE_MASK)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 15);
+    }
+
+    private static int hash(CharSequence input, int seed) {
+        int hash = 0x811C9DC5 ^ seed;
+        for (int i = 0; i < input.length(); i++) {
+            hash = (hash ^ (input.charAt(i) & CASE_MASK)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 15);
+    }
+
+    private static void buildIndex() {
+        List<List<Integer>> buckets = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int number = MIN_INT_VALUE; number <= MAX_INT_VALUE; number++) {
+            String roman = ArabicToRomanNumberConverterUseCase.romanNumberOf(number);
+            buckets.get(hash(roman, 0) & (BUCKET_COUNT - 1)).add(number);
+        }
+
+        List<Integer> order = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            order.add(bucket);
+        }
+        order.sort(Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        for (int bucket : order) {
+            List<Integer> numbers = buckets.get(bucket);
+            if (!numbers.isEmpty()) {
+                DISPLACEMENTS[bucket] = place(numbers);
+            }
+        }
+    }
+
+    private static int place(List<Integer> numbers) {
+        int[] slots = new int[numbers.size()];
+        for (int displacement = 1; ; displacement++) {
+            if (tryPlace(numbers, displacement, slots)) {
+                for (int i = 0; i < slots.length; i++) {
+                    KEYS[slots[i]] = ArabicToRomanNumberConverterUseCase.romanNumberOf(numbers.get(i));
+                    VALUES[slots[i]] = numbers.get(i);
+                }
+                return displacement;
+            }
+        }
+    }
+
+    private static boolean tryPlace(List<Integer> numbers, int displacement, int[] slots) {
+        for (int i = 0; i < slots.length; i++) {
+            String roman = ArabicToRomanNumberConverterUseCase.romanNumberOf(numbers.get(i));
+            int slot = hash(roman, displacement) & (SLOT_COUNT - 1);
+            if (KEYS[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.kata.romannumbers.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Batch decoder running the finite-state parser over one numeral at a time.
+ */
+@Service
+@ConditionalOnProperty(name = "roman-numbers.converter.batch-decoder", havingValue = "scalar")
+public class RomanToArabicNumberScalarBatchDecoderUseCase implements RomanToArabicNumberBatchDecoder {
+
+    @Override
+    public int decode(byte[] source, int[] offsets, int count, int[] results, long[] errors) {
+        int invalid = 0;
+        for (int i = 0; i < count; i++) {
+            int value = RomanNumeralAutomaton.parse(source, offsets[i], offsets[i + 1]);
+            if (value > 0) {
+                results[i] = value;
+                errors[i >>> 6] &= ~(1L << i);
+            } else {
+                results[i] = 0;
+                errors[i >>> 6] |= 1L << i;
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
@@ -1,5 +1,6 @@
 package com.kata.romannumbers.application.exception;
 
 public class InvalidArabicNumberException extends RuntimeException {
-    public InvalidArabicNumberException(String message) { super(message); }
+    // Invalid input is expected traffic, so the exception skips filling in a stack trace
+    public InvalidArabicNumberException(String message) { super(message, null, false, false); }
 }
@@ -1,5 +1,6 @@
 package com.kata.romannumbers.application.exception;
 
 public class InvalidRomanNumberException extends RuntimeException {
-    public InvalidRomanNumberException(String message) { super(message); }
+    // Invalid input is expected traffic, so the exception skips filling in a stack trace
+    public InvalidRomanNumberException(String message) { super(message, null, false, false); }
 }
@@ -0,0 +1,11 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+import java.time.Duration;
+
+public record BulkConversionReport(long lines, long errors, Duration elapsed) {
+
+    public double linesPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return lines * 1_000_000_000d / nanos;
+    }
+}
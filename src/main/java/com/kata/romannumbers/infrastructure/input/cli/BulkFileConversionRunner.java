@@ -0,0 +1,55 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command-line entry point for bulk file conversion.
+ * <p>
+ * Usage: {@code java -jar app.jar convert --direction=arabic-to-roman --input=in.txt --output=out.txt
+ * [--rejects=out.txt.rejects] [--threads=N]}
+ */
+@Slf4j
+@Component
+@Profile("cli")
+@RequiredArgsConstructor
+public class BulkFileConversionRunner implements ApplicationRunner {
+
+    private final BulkFileConverter converter;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ConversionDirection direction = ConversionDirection.of(requiredOption(args, "direction"));
+        Path input = Path.of(requiredOption(args, "input"));
+        Path output = Path.of(requiredOption(args, "output"));
+        Path rejects = Path.of(option(args, "rejects", output + ".rejects"));
+        int threads = Integer.parseInt(option(args, "threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        log.info("Converting {} ({}) into {} using {} threads", input, direction, output, threads);
+        BulkConversionReport report = converter.convert(input, output, rejects, direction, threads);
+        log.info("Converted {} lines in {} ms ({} lines/s), {} errors written to {}",
+                report.lines(), report.elapsed().toMillis(), String.format("%.0f", report.linesPerSecond()),
+                report.errors(), rejects);
+    }
+
+    private static String requiredOption(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Missing required option --%s", name));
+        }
+        return values.get(0);
+    }
+
+    private static String option(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+}
@@ -0,0 +1,234 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts a file with one number or numeral per line.
+ * <p>
+ * The input is memory-mapped in line-aligned chunks that are converted in parallel. Chunk results are
+ * written in input order through NIO channels, and at most two chunks per thread are in flight, so
+ * memory use does not depend on the file size. Valid lines go to the output file; invalid lines go to
+ * the rejects file as {@code line<TAB>input<TAB>message}.
+ */
+@Component
+@Profile("cli")
+public class BulkFileConverter {
+
+    private static final long DEFAULT_CHUNK_SIZE = 32L * 1024 * 1024;
+
+    private final ArabicToRomanNumberConverter arabicToRomanConverter;
+    private final RomanToArabicNumberConverter romanToArabicConverter;
+    private final long chunkSize;
+
+    @Autowired
+    public BulkFileConverter(ArabicToRomanNumberConverter arabicToRomanConverter,
+                             RomanToArabicNumberConverter romanToArabicConverter) {
+        this(arabicToRomanConverter, romanToArabicConverter, DEFAULT_CHUNK_SIZE);
+    }
+
+    BulkFileConverter(ArabicToRomanNumberConverter arabicToRomanConverter,
+                      RomanToArabicNumberConverter romanToArabicConverter,
+                      long chunkSize) {
+        this.arabicToRomanConverter = arabicToRomanConverter;
+        this.romanToArabicConverter = romanToArabicConverter;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkConversionReport convert(Path input, Path output, Path rejects,
+                                        ConversionDirection direction, int parallelism) throws IOException {
+        long start = System.nanoTime();
+        long lines = 0;
+        long errors = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = openForWrite(output);
+             FileChannel rejected = openForWrite(rejects)) {
+            Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+            long size = in.size();
+            long position = 0;
+
+            while (position < size) {
+                MappedByteBuffer chunk = mapLineAlignedChunk(in, position, size);
+                position += chunk.limit();
+                pending.add(executor.submit(() -> convertChunk(chunk, direction)));
+
+                if (pending.size() >= 2 * parallelism) {
+                    ChunkResult result = await(pending.poll());
+                    write(result, lines, out, rejected);
+                    lines += result.lines();
+                    errors += result.rejects().size();
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                ChunkResult result = await(pending.poll());
+                write(result, lines, out, rejected);
+                lines += result.lines();
+                errors += result.rejects().size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new BulkConversionReport(lines, errors, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private MappedByteBuffer mapLineAlignedChunk(FileChannel in, long position, long size) throws IOException {
+        long length = Math.min(chunkSize, size - position);
+        while (true) {
+            MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return chunk;
+            }
+            for (int i = (int) length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return chunk.limit(i + 1);
+                }
+            }
+            // A single line longer than the chunk: widen the window until it ends
+            length = Math.min(Math.min(2 * length, Integer.MAX_VALUE), size - position);
+        }
+    }
+
+    private ChunkResult convertChunk(ByteBuffer chunk, ConversionDirection direction) {
+        ChunkOutput output = new ChunkOutput(chunk.limit());
+        List<Reject> rejects = new ArrayList<>();
+        int lines = 0;
+        int lineStart = 0;
+        int limit = chunk.limit();
+
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+            try {
+                String converted = direction == ConversionDirection.ARABIC_TO_ROMAN
+                        ? arabicToRomanConverter.perform(parseArabic(chunk, lineStart, contentEnd))
+                        : String.valueOf(romanToArabicConverter.perform(ascii(chunk, lineStart, contentEnd)));
+                output.writeAscii(converted);
+                output.write('\n');
+            } catch (InvalidArabicNumberException | InvalidRomanNumberException | NumberFormatException ex) {
+                // Only invalid input is rejected; anything else is a bug and fails the run
+                rejects.add(new Reject(lines, ascii(chunk, lineStart, contentEnd), ex.getMessage()));
+            }
+
+            lines++;
+            lineStart = lineEnd + 1;
+        }
+
+        return new ChunkResult(lines, output, rejects);
+    }
+
+    private static Integer parseArabic(ByteBuffer chunk, int from, int to) {
+        int sign = from < to && chunk.get(from) == '-' ? -1 : 1;
+        int start = sign < 0 ? from + 1 : from;
+        if (start == to || to - start > 9) {
+            throw new NumberFormatException(
+                    String.format("Invalid number format: '%s'", ascii(chunk, from, to)));
+        }
+
+        int value = 0;
+        for (int i = start; i < to; i++) {
+            int digit = chunk.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(
+                        String.format("Invalid number format: '%s'", ascii(chunk, from, to)));
+            }
+            value = value * 10 + digit;
+        }
+        return sign * value;
+    }
+
+    private static String ascii(ByteBuffer chunk, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        chunk.get(from, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void write(ChunkResult result, long firstLine, FileChannel out, FileChannel rejected)
+            throws IOException {
+        writeFully(out, result.output().asByteBuffer());
+        if (!result.rejects().isEmpty()) {
+            StringBuilder lines = new StringBuilder();
+            for (Reject reject : result.rejects()) {
+                lines.append(firstLine + reject.line() + 1).append('\t')
+                        .append(reject.input()).append('\t')
+                        .append(reject.message()).append('\n');
+            }
+            writeFully(rejected, ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static ChunkResult await(Future<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk conversion interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IOException("Bulk conversion failed", ex.getCause());
+        }
+    }
+
+    private record ChunkResult(int lines, ChunkOutput output, List<Reject> rejects) {
+    }
+
+    private record Reject(int line, String input, String message) {
+    }
+
+    private static final class ChunkOutput extends ByteArrayOutputStream {
+
+        ChunkOutput(int size) {
+            super(size);
+        }
+
+        void writeAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                write(value.charAt(i));
+            }
+        }
+
+        ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+public enum ConversionDirection {
+    ARABIC_TO_ROMAN,
+    ROMAN_TO_ARABIC;
+
+    public static ConversionDirection of(String name) {
+        return valueOf(name.toUpperCase().replace('-', '_'));
+    }
+}
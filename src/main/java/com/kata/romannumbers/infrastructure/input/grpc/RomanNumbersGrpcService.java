@@ -0,0 +1,146 @@
+package com.kata.romannumbers.infrastructure.input.grpc;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ArabicToRomanRequest;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionFailure;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.FailureReason;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanNumbersServiceGrpc;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanToArabicRequest;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * gRPC adapter over the converter beans. Replies are immutable protobuf messages, so one reply per
+ * arabic value and per error is built once and shared by every call.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication
+public class RomanNumbersGrpcService extends RomanNumbersServiceGrpc.RomanNumbersServiceImplBase {
+
+    private static final int MAX_ARABIC_VALUE = 3999;
+
+    private final ArabicToRomanNumberConverter arabicToRomanNumberConverter;
+    private final RomanToArabicNumberConverter romanToArabicNumberConverter;
+    private final ConversionMetrics conversionMetrics;
+
+    private final ConversionReply[] replies = new ConversionReply[MAX_ARABIC_VALUE + 1];
+    private final Map<ConversionError, ConversionReply> failures = new EnumMap<>(ConversionError.class);
+
+    public RomanNumbersGrpcService(ArabicToRomanNumberConverter arabicToRomanNumberConverter,
+                                   RomanToArabicNumberConverter romanToArabicNumberConverter,
+                                   ConversionMetrics conversionMetrics) {
+        this.arabicToRomanNumberConverter = arabicToRomanNumberConverter;
+        this.romanToArabicNumberConverter = romanToArabicNumberConverter;
+        this.conversionMetrics = conversionMetrics;
+
+        for (ConversionError error : ConversionError.values()) {
+            failures.put(error, ConversionReply.newBuilder()
+                    .setFailure(ConversionFailure.newBuilder()
+                            .setReason(FailureReason.valueOf(error.name()))
+                            .setError(PrecomputedErrorResponses.titleOf(error))
+                            .setMessage(error.message()))
+                    .build());
+        }
+    }
+
+    @Override
+    public void arabicToRoman(ArabicToRomanRequest request, StreamObserver<ConversionReply> responseObserver) {
+        responseObserver.onNext(arabicToRoman(request));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void romanToArabic(RomanToArabicRequest request, StreamObserver<ConversionReply> responseObserver) {
+        responseObserver.onNext(romanToArabic(request));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<ArabicToRomanRequest> arabicToRomanStream(StreamObserver<ConversionReply> responseObserver) {
+        return stream(responseObserver, this::arabicToRoman);
+    }
+
+    @Override
+    public StreamObserver<RomanToArabicRequest> romanToArabicStream(StreamObserver<ConversionReply> responseObserver) {
+        return stream(responseObserver, this::romanToArabic);
+    }
+
+    private ConversionReply arabicToRoman(ArabicToRomanRequest request) {
+        return replyOf(arabicToRomanNumberConverter.tryPerform(request.getNumber()));
+    }
+
+    private ConversionReply romanToArabic(RomanToArabicRequest request) {
+        return replyOf(romanToArabicNumberConverter.tryPerform(request.getRoman()));
+    }
+
+    private ConversionReply replyOf(ConversionResult result) {
+        if (!result.isValid()) {
+            conversionMetrics.countError(result.error());
+            return failures.get(result.error());
+        }
+        // Filled on first use; racing threads build equal replies, so either one may be kept
+        ConversionReply reply = replies[result.arabic()];
+        if (reply == null) {
+            reply = ConversionReply.newBuilder()
+                    .setArabic(result.arabic())
+                    .setRoman(result.roman())
+                    .build();
+            replies[result.arabic()] = reply;
+        }
+        return reply;
+    }
+
+    /**
+     * Converts each request as it arrives. The next request is only pulled once the transport can take
+     * another reply, so a client that stops reading slows the stream down instead of buffering replies.
+     */
+    private <T> StreamObserver<T> stream(StreamObserver<ConversionReply> responseObserver,
+                                         Function<T, ConversionReply> convert) {
+        ServerCallStreamObserver<ConversionReply> serverObserver =
+                (ServerCallStreamObserver<ConversionReply>) responseObserver;
+        serverObserver.disableAutoRequest();
+        AtomicBoolean wasReady = new AtomicBoolean();
+        serverObserver.setOnReadyHandler(() -> {
+            if (serverObserver.isReady() && wasReady.compareAndSet(false, true)) {
+                serverObserver.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T request) {
+                serverObserver.onNext(convert.apply(request));
+                if (serverObserver.isReady()) {
+                    serverObserver.request(1);
+                } else {
+                    wasReady.set(false);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                log.info("Conversion stream closed by the client: {}", throwable.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                serverObserver.onCompleted();
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.infrastructure.input.rest.PrecomputedConversionResponses;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.NumberUtils;
+
+import java.io.IOException;
+
+/**
+ * Lean counterpart of {@code ArabicToRomanNumberGetAdapter}.
+ * <p>
+ * Plain decimal values are parsed straight from the query string. Anything else goes through the same
+ * {@link NumberUtils} conversion Spring MVC applies to an {@code Integer} request parameter.
+ */
+@Slf4j
+class ArabicToRomanNumberHttpHandler extends ConversionHttpHandler {
+
+    static final String PATH = "/api/v1/roman-numbers/arabic-to-roman";
+
+    private final ArabicToRomanNumberConverter converter;
+    private final PrecomputedConversionResponses conversionResponses;
+    private final PrecomputedErrorResponses errorResponses;
+    private final byte[] convertedToNull;
+
+    ArabicToRomanNumberHttpHandler(ArabicToRomanNumberConverter converter,
+                                   PrecomputedConversionResponses conversionResponses,
+                                   PrecomputedErrorResponses errorResponses,
+                                   LeanHttpResponses responses) {
+        super(PATH, "number", "Integer", responses);
+        this.converter = converter;
+        this.conversionResponses = conversionResponses;
+        this.errorResponses = errorResponses;
+        this.convertedToNull = responses.serialize(new ErrorResponse("Missing Request Parameter",
+                "Required request parameter 'number' for method parameter type Integer is present but converted to null"));
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String query, int start, int end) throws IOException {
+        log.debug("GET {} with arabic number {}", PATH, query);
+        int number;
+        if (start < end && !QueryStrings.isEncoded(query, start, end) && isDecimal(query, start, end)) {
+            number = Integer.parseInt(query, start, end, 10);
+        } else {
+            String value = QueryStrings.decode(query, start, end);
+            if (value.isBlank()) {
+                responses.sendError(exchange, ConversionMetrics.MISSING_PARAMETER, convertedToNull);
+                return;
+            }
+            try {
+                number = NumberUtils.parseNumber(value, Integer.class);
+            } catch (IllegalArgumentException ex) {
+                responses.sendError(exchange, ConversionMetrics.TYPE_MISMATCH, responses.serialize(new ErrorResponse(
+                        "Type mismatch error",
+                        String.format("Invalid parameter type: '%s' cannot be converted to Integer", value))));
+                return;
+            }
+        }
+
+        ConversionResult result = converter.tryPerform(number);
+        ResponseFormat format = ResponseFormat.negotiate(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT));
+        responses.send(exchange, format, result.isValid()
+                ? conversionResponses.arabicToRoman(result, format)
+                : errorResponses.of(result.error(), format));
+    }
+
+    /**
+     * True for an optional sign followed by at most nine digits, which always fits in an {@code int}.
+     */
+    private static boolean isDecimal(String query, int start, int end) {
+        char first = query.charAt(start);
+        int digits = first == '-' ? start + 1 : start;
+        if (digits == end || end - digits > 9) {
+            return false;
+        }
+        for (int i = digits; i < end; i++) {
+            char current = query.charAt(i);
+            if (current < '0' || current > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * GET endpoint taking a single required query parameter. Subclasses read the value in place from the raw
+ * query string through {@link QueryStrings}.
+ */
+@Slf4j
+abstract class ConversionHttpHandler implements HttpHandler {
+
+    private static final String GET = "GET";
+    private static final List<String> ALLOWED_METHODS = List.of(GET);
+
+    private final String path;
+    private final String parameter;
+    private final byte[] missingParameter;
+    protected final LeanHttpResponses responses;
+
+    ConversionHttpHandler(String path, String parameter, String parameterType, LeanHttpResponses responses) {
+        this.path = path;
+        this.parameter = parameter;
+        this.responses = responses;
+        this.missingParameter = responses.serialize(new ErrorResponse("Missing Request Parameter",
+                String.format("Required request parameter '%s' for method parameter type %s is not present",
+                        parameter, parameterType)));
+    }
+
+    String path() {
+        return path;
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!GET.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().put(HttpHeaders.ALLOW, ALLOWED_METHODS);
+                responses.sendStatus(exchange, HttpStatus.METHOD_NOT_ALLOWED);
+                return;
+            }
+            // Contexts match by prefix; only the exact path is an endpoint
+            if (!path.equals(exchange.getRequestURI().getRawPath())) {
+                responses.sendStatus(exchange, HttpStatus.NOT_FOUND);
+                return;
+            }
+            String query = exchange.getRequestURI().getRawQuery();
+            int start = QueryStrings.valueStart(query, parameter);
+            if (start == QueryStrings.ABSENT) {
+                responses.sendError(exchange, ConversionMetrics.MISSING_PARAMETER, missingParameter);
+                return;
+            }
+            handle(exchange, query, start, QueryStrings.valueEnd(query, start));
+        } catch (RuntimeException ex) {
+            log.error("Unexpected error serving {}", exchange.getRequestURI(), ex);
+            responses.sendInternalError(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers a request whose parameter value is {@code query[start, end)}, still URL-encoded.
+     */
+    protected abstract void handle(HttpExchange exchange, String query, int start, int end) throws IOException;
+}
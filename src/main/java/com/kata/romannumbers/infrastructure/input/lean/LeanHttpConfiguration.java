@@ -0,0 +1,36 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.rest.PrecomputedConversionResponses;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves the GET conversion endpoints from the JDK HTTP server, without the Spring MVC dispatcher.
+ * The {@code lean} profile enables it and turns the servlet stack off.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "roman-numbers.lean-http.enabled", havingValue = "true")
+@EnableConfigurationProperties(LeanHttpProperties.class)
+public class LeanHttpConfiguration {
+
+    @Bean
+    public LeanHttpServer leanHttpServer(LeanHttpProperties properties,
+                                         ArabicToRomanNumberConverter arabicToRomanConverter,
+                                         RomanToArabicNumberConverter romanToArabicConverter,
+                                         PrecomputedConversionResponses conversionResponses,
+                                         PrecomputedErrorResponses errorResponses,
+                                         ObjectMapper objectMapper,
+                                         ConversionMetrics conversionMetrics) {
+        LeanHttpResponses responses = new LeanHttpResponses(objectMapper, conversionMetrics);
+        return new LeanHttpServer(properties,
+                new ArabicToRomanNumberHttpHandler(arabicToRomanConverter, conversionResponses, errorResponses, responses),
+                new RomanToArabicNumberHttpHandler(romanToArabicConverter, conversionResponses, errorResponses, responses));
+    }
+}
@@ -0,0 +1,16 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the lean HTTP server. With {@code workerThreads} set to 0 the handlers run on the dispatcher
+ * thread of the server, which avoids a hand-off per request; conversions never block, so that is the default.
+ */
+@ConfigurationProperties("roman-numbers.lean-http")
+public record LeanHttpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8080") int port,
+        @DefaultValue("0") int workerThreads,
+        @DefaultValue("0") int backlog) {
+}
@@ -0,0 +1,119 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes responses with the same status codes, headers and bodies as the Spring MVC adapters and
+ * {@code GlobalExceptionHandler}.
+ */
+class LeanHttpResponses {
+
+    // Tomcat adds the charset to every content type because server.servlet.encoding.force is set
+    private static final String CHARSET = ";charset=UTF-8";
+    private static final List<String> JSON_CONTENT_TYPE = List.of(MediaType.APPLICATION_JSON_VALUE + CHARSET);
+    private static final Map<ResponseFormat, List<String>> CONTENT_TYPES = new EnumMap<>(ResponseFormat.class);
+
+    static {
+        for (ResponseFormat format : ResponseFormat.values()) {
+            CONTENT_TYPES.put(format, List.of(format.mediaType() + CHARSET));
+        }
+    }
+    private static final int NO_BODY = -1;
+
+    private final ObjectWriter writer;
+    private final ConversionMetrics conversionMetrics;
+    private final byte[] internalError;
+
+    LeanHttpResponses(ObjectMapper objectMapper, ConversionMetrics conversionMetrics) {
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.conversionMetrics = conversionMetrics;
+        this.internalError = serialize(new ErrorResponse("Internal server error", "An unexpected error occurred"));
+    }
+
+    /**
+     * Sends a precomputed entity encoded in {@code format}, answering a matching {@code If-None-Match} with 304 as
+     * Spring MVC does.
+     */
+    void send(HttpExchange exchange, ResponseFormat format, ResponseEntity<?> response) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            headers.put(header.getKey(), header.getValue());
+        }
+        headers.put(HttpHeaders.CONTENT_TYPE, CONTENT_TYPES.get(format));
+        String etag = response.getHeaders().getETag();
+        if (etag != null && matches(exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), etag)) {
+            exchange.sendResponseHeaders(HttpStatus.NOT_MODIFIED.value(), NO_BODY);
+            return;
+        }
+        sendBody(exchange, response.getStatusCode().value(), (byte[]) response.getBody());
+    }
+
+    /**
+     * Serializes an error body once; the result is meant to be kept and passed to {@link #sendError}.
+     */
+    byte[] serialize(ErrorResponse errorResponse) {
+        try {
+            return writer.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    void sendError(HttpExchange exchange, String errorType, byte[] body) throws IOException {
+        conversionMetrics.countError(errorType);
+        exchange.getResponseHeaders().put(HttpHeaders.CONTENT_TYPE, JSON_CONTENT_TYPE);
+        sendBody(exchange, HttpStatus.BAD_REQUEST.value(), body);
+    }
+
+    void sendInternalError(HttpExchange exchange) throws IOException {
+        conversionMetrics.countError(ConversionMetrics.INTERNAL_ERROR);
+        exchange.getResponseHeaders().put(HttpHeaders.CONTENT_TYPE, JSON_CONTENT_TYPE);
+        sendBody(exchange, HttpStatus.INTERNAL_SERVER_ERROR.value(), internalError);
+    }
+
+    void sendStatus(HttpExchange exchange, HttpStatus status) throws IOException {
+        exchange.sendResponseHeaders(status.value(), NO_BODY);
+    }
+
+    private static void sendBody(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream output = exchange.getResponseBody();
+        output.write(body);
+        output.close();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
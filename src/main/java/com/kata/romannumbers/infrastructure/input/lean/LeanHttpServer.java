@@ -0,0 +1,88 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the JDK HTTP server with one context per conversion endpoint.
+ */
+@Slf4j
+public class LeanHttpServer implements SmartLifecycle {
+
+    private static final int SHUTDOWN_GRACE_SECONDS = 5;
+    // Read once by the JDK server implementation; without it the body write waits for the delayed ACK of the headers
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private volatile boolean running;
+
+    LeanHttpServer(LeanHttpProperties properties, ConversionHttpHandler... handlers) {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(properties.port()), properties.backlog());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not bind the lean HTTP server", ex);
+        }
+        for (ConversionHttpHandler handler : handlers) {
+            server.createContext(handler.path(), handler);
+        }
+        this.workers = properties.workerThreads() > 0 ? newWorkers(properties.workerThreads()) : null;
+        // A null executor runs every exchange on the dispatcher thread
+        server.setExecutor(workers);
+    }
+
+    @Override
+    public void start() {
+        server.start();
+        running = true;
+        log.info("Lean HTTP server started on port {} ({})", getPort(),
+                workers == null ? "dispatcher thread" : "worker pool");
+    }
+
+    @Override
+    public void stop() {
+        server.stop(SHUTDOWN_GRACE_SECONDS);
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static ExecutorService newWorkers(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "lean-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
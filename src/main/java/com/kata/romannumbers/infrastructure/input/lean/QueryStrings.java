@@ -0,0 +1,60 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Locates parameter values inside a raw query string by index, so the common case of an unencoded value
+ * is read in place without splitting the query or copying the value.
+ */
+final class QueryStrings {
+
+    static final int ABSENT = -1;
+
+    private QueryStrings() {
+    }
+
+    /**
+     * @return the index where the value of the first {@code name} parameter starts, or {@link #ABSENT}
+     */
+    static int valueStart(String query, String name) {
+        if (query == null) {
+            return ABSENT;
+        }
+        int length = query.length();
+        int from = 0;
+        while (from < length) {
+            int end = valueEnd(query, from);
+            if (query.startsWith(name, from)) {
+                int afterName = from + name.length();
+                if (afterName == end) {
+                    return end;
+                }
+                if (query.charAt(afterName) == '=') {
+                    return afterName + 1;
+                }
+            }
+            from = end + 1;
+        }
+        return ABSENT;
+    }
+
+    static int valueEnd(String query, int start) {
+        int end = query.indexOf('&', start);
+        return end < 0 ? query.length() : end;
+    }
+
+    static boolean isEncoded(String query, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char current = query.charAt(i);
+            if (current == '%' || current == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String decode(String query, int start, int end) {
+        return URLDecoder.decode(query.substring(start, end), StandardCharsets.UTF_8);
+    }
+}
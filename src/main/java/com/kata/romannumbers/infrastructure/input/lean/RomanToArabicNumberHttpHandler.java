@@ -0,0 +1,51 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.rest.PrecomputedConversionResponses;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.sun.net.httpserver.HttpExchange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * Lean counterpart of {@code RomanToArabicNumberGetAdapter}. An unencoded numeral is handed to the converter
+ * as a view over the query string.
+ */
+@Slf4j
+class RomanToArabicNumberHttpHandler extends ConversionHttpHandler {
+
+    static final String PATH = "/api/v1/roman-numbers/roman-to-arabic";
+
+    private final RomanToArabicNumberConverter converter;
+    private final PrecomputedConversionResponses conversionResponses;
+    private final PrecomputedErrorResponses errorResponses;
+
+    RomanToArabicNumberHttpHandler(RomanToArabicNumberConverter converter,
+                                   PrecomputedConversionResponses conversionResponses,
+                                   PrecomputedErrorResponses errorResponses,
+                                   LeanHttpResponses responses) {
+        super(PATH, "roman", "String", responses);
+        this.converter = converter;
+        this.conversionResponses = conversionResponses;
+        this.errorResponses = errorResponses;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, String query, int start, int end) throws IOException {
+        log.debug("GET {} with roman number {}", PATH, query);
+        CharSequence roman = QueryStrings.isEncoded(query, start, end)
+                ? QueryStrings.decode(query, start, end)
+                : CharBuffer.wrap(query, start, end);
+
+        ConversionResult result = converter.tryPerform(roman);
+        ResponseFormat format = ResponseFormat.negotiate(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT));
+        responses.send(exchange, format, result.isValid()
+                ? conversionResponses.romanToArabic(result, format)
+                : errorResponses.of(result.error(), format));
+    }
+}
@@ -0,0 +1,45 @@
+package com.kata.romannumbers.infrastructure.input.reactive;
+
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.rest.ConversionRequestEvent;
+import com.kata.romannumbers.infrastructure.input.rest.PrecomputedConversionResponses;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/roman-numbers/roman-to-arabic")
+@RequiredArgsConstructor
+public class RomanToArabicNumberReactiveGetAdapter {
+
+    private final RomanToArabicNumberConverter converter;
+    private final PrecomputedErrorResponses errorResponses;
+    private final PrecomputedConversionResponses responses;
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> perform(@RequestParam String roman,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.debug("GET /api/v1/roman-numbers/roman-to-arabic with roman number {}", roman);
+        ConversionRequestEvent event = ConversionRequestEvent.start();
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        ConversionResult result = converter.tryPerform(roman);
+        ResponseEntity<?> response = result.isValid()
+                ? responses.romanToArabic(result, format)
+                : errorResponses.of(result.error(), format);
+        event.romanToArabic(roman, format, result);
+        return Mono.just(response);
+    }
+}
@@ -0,0 +1,64 @@
+package com.kata.romannumbers.infrastructure.input.reactive.exception;
+
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Reactive counterpart of {@code GlobalExceptionHandler}, producing the same error bodies.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGlobalExceptionHandler {
+
+    private final ConversionMetrics conversionMetrics;
+
+    @ExceptionHandler(MissingRequestValueException.class)
+    public ResponseEntity<ErrorResponse> handleMissingRequestValueException(MissingRequestValueException ex) {
+        conversionMetrics.countError(ConversionMetrics.MISSING_PARAMETER);
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Missing Request Parameter",
+                ex.getReason()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        if (ex.getCause() instanceof TypeMismatchException typeMismatch) {
+            conversionMetrics.countError(ConversionMetrics.TYPE_MISMATCH);
+            String message = String.format("Invalid parameter type: '%s' cannot be converted to %s",
+                    typeMismatch.getValue(), typeMismatch.getRequiredType().getSimpleName());
+            ErrorResponse errorResponse = new ErrorResponse(
+                    "Type mismatch error",
+                    message
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+        conversionMetrics.countError(ConversionMetrics.INVALID_REQUEST);
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Invalid Request",
+                ex.getReason()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        conversionMetrics.countError(ConversionMetrics.INTERNAL_ERROR);
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Internal server error",
+                "An unexpected error occurred"
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,56 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.BatchItemErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/roman-numbers/arabic-to-roman/batch")
+@RequiredArgsConstructor
+public class ArabicToRomanNumberBatchPostAdapter {
+
+    private final ArabicToRomanNumberConverter converter;
+    private final BatchConversionStreamer streamer;
+
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> perform(InputStream body) {
+        log.debug("POST /api/v1/roman-numbers/arabic-to-roman/batch");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamer.stream(body, ConversionRequestEvent.ARABIC_TO_ROMAN, this::convert));
+    }
+
+    private Object convert(JsonNode item) {
+        if (!item.isIntegralNumber() || !item.canConvertToInt()) {
+            String input = BatchConversionStreamer.inputOf(item);
+            return new BatchItemErrorResponse(input, "Type mismatch error",
+                    String.format("Invalid parameter type: '%s' cannot be converted to Integer", input));
+        }
+
+        int arabic = item.intValue();
+        ConversionResult result = converter.tryPerform(arabic);
+        if (!result.isValid()) {
+            return new BatchItemErrorResponse(String.valueOf(arabic),
+                    PrecomputedErrorResponses.titleOf(result.error()), result.error().message());
+        }
+        return new ArabicToRomanNumberResponse(arabic, result.roman());
+    }
+}
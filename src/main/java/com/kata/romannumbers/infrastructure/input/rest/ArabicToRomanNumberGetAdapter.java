@@ -1,30 +1,41 @@
 package com.kata.romannumbers.infrastructure.input.rest;
 
 import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
-import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/roman-numbers/arabic-to-roman")
 @RequiredArgsConstructor
 public class ArabicToRomanNumberGetAdapter {
 
     private final ArabicToRomanNumberConverter converter;
+    private final PrecomputedErrorResponses errorResponses;
+    private final PrecomputedConversionResponses responses;
 
     @GetMapping
-    public ResponseEntity<ArabicToRomanNumberResponse> perform(@RequestParam Integer number) {
-        log.info("GET /api/v1/roman-numbers/arabic-to-roman with arabic number {}", number);
-        return ResponseEntity.ok(buildResponse(number, converter.perform(number)));
-    }
-
-    private ArabicToRomanNumberResponse buildResponse(Integer arabic, String roman) {
-        return new ArabicToRomanNumberResponse(arabic, roman);
+    public ResponseEntity<?> perform(@RequestParam Integer number,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.debug("GET /api/v1/roman-numbers/arabic-to-roman with arabic number {}", number);
+        ConversionRequestEvent event = ConversionRequestEvent.start();
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        ConversionResult result = converter.tryPerform(number);
+        ResponseEntity<?> response = result.isValid()
+                ? responses.arabicToRoman(result, format)
+                : errorResponses.of(result.error(), format);
+        event.arabicToRoman(number, format, result);
+        return response;
     }
 }
@@ -0,0 +1,108 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kata.romannumbers.infrastructure.input.rest.model.BatchItemErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+/**
+ * Streams a batch of conversions as NDJSON, one output line per input element and in the same order.
+ * <p>
+ * The request body may be either a JSON array or a sequence of NDJSON values; both are read
+ * incrementally, so neither the request nor the response is ever held in memory as a whole. Each batch is
+ * recorded as a {@link ConversionRequestEvent} that ends when the last line has been written.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class BatchConversionStreamer {
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    BatchConversionStreamer(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(JsonNode.class);
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * @param direction {@link ConversionRequestEvent#ARABIC_TO_ROMAN} or {@link ConversionRequestEvent#ROMAN_TO_ARABIC}
+     */
+    StreamingResponseBody stream(InputStream body, String direction, Function<JsonNode, Object> conversion) {
+        return new Batch(body, direction, conversion, ConversionRequestEvent.start());
+    }
+
+    static String inputOf(JsonNode item) {
+        return item.isValueNode() ? item.asText() : item.toString();
+    }
+
+    private void writeLine(JsonGenerator generator, Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    private final class Batch implements StreamingResponseBody {
+
+        private final InputStream body;
+        private final String direction;
+        private final Function<JsonNode, Object> conversion;
+        private final ConversionRequestEvent event;
+        private long written;
+        private long invalid;
+        private boolean malformed;
+
+        private Batch(InputStream body, String direction, Function<JsonNode, Object> conversion,
+                      ConversionRequestEvent event) {
+            this.body = body;
+            this.direction = direction;
+            this.conversion = conversion;
+            this.event = event;
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            try (MappingIterator<JsonNode> items = reader.readValues(body);
+                 JsonGenerator generator = writer.createGenerator(output)) {
+                generator.setRootValueSeparator(null);
+                JsonNode item;
+                while ((item = nextItem(items, generator)) != null) {
+                    Object line = conversion.apply(item);
+                    if (line instanceof BatchItemErrorResponse) {
+                        invalid++;
+                    }
+                    writeLine(generator, line);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            } finally {
+                event.batch(direction, written, invalid, malformed);
+            }
+        }
+
+        private JsonNode nextItem(MappingIterator<JsonNode> items, JsonGenerator generator) throws IOException {
+            try {
+                return items.hasNextValue() ? items.nextValue() : null;
+            } catch (JsonProcessingException ex) {
+                malformed = true;
+                writeLine(generator, new BatchItemErrorResponse(null, "Malformed Request Body",
+                        ex.getOriginalMessage()));
+                return null;
+            }
+        }
+    }
+}
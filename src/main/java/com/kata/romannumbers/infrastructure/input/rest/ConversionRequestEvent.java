@@ -0,0 +1,121 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.kata.romannumbers.application.ConversionResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a conversion request handled by a REST adapter of either web stack. A GET spans
+ * format negotiation to the response entity; a batch spans the whole streamed response and an aggregation the
+ * whole body. Like the use case event it is disabled by default and only filled in when committed.
+ */
+@Name(ConversionRequestEvent.NAME)
+@Label("Roman Numeral Conversion Request")
+@Description("Conversion request handled by a REST adapter")
+@Category({"Roman Numbers", "REST"})
+@Enabled(false)
+@Threshold("0 ns")
+@StackTrace(false)
+public final class ConversionRequestEvent extends Event {
+
+    static final String NAME = "com.kata.romannumbers.ConversionRequest";
+
+    static final String ARABIC_TO_ROMAN = "arabic-to-roman";
+    static final String ROMAN_TO_ARABIC = "roman-to-arabic";
+
+    static final String GET = "get";
+    static final String BATCH = "batch";
+    static final String AGGREGATE = "aggregate";
+
+    static final String SUCCESS = "success";
+    static final String INVALID_ITEMS = "INVALID_ITEMS";
+    static final String MALFORMED_BODY = "MALFORMED_BODY";
+    static final String INVALID_REQUEST = "INVALID_REQUEST";
+
+    private static final String NDJSON = "NDJSON";
+
+    @Label("Endpoint")
+    @Description("get, batch or aggregate")
+    String endpoint;
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Input Length")
+    @Description("Decimal digits of the arabic number or characters of the roman numeral, 0 for batches and aggregations")
+    int inputLength;
+
+    @Label("Items")
+    @Description("Conversions in the request")
+    long items;
+
+    @Label("Outcome")
+    @Description("success, the conversion error of a GET, or why a batch or aggregation was not fully converted")
+    String outcome;
+
+    @Label("Format")
+    @Description("Negotiated response format")
+    String format;
+
+    public static ConversionRequestEvent start() {
+        ConversionRequestEvent event = new ConversionRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    public void arabicToRoman(int number, ResponseFormat responseFormat, ConversionResult result) {
+        end();
+        if (shouldCommit()) {
+            direction = ARABIC_TO_ROMAN;
+            inputLength = Integer.toString(number).length();
+            get(responseFormat, result);
+        }
+    }
+
+    public void romanToArabic(String roman, ResponseFormat responseFormat, ConversionResult result) {
+        end();
+        if (shouldCommit()) {
+            direction = ROMAN_TO_ARABIC;
+            inputLength = roman.length();
+            get(responseFormat, result);
+        }
+    }
+
+    void batch(String batchDirection, long converted, long invalid, boolean malformed) {
+        end();
+        if (shouldCommit()) {
+            endpoint = BATCH;
+            direction = batchDirection;
+            items = converted;
+            outcome = malformed ? MALFORMED_BODY : invalid > 0 ? INVALID_ITEMS : SUCCESS;
+            format = NDJSON;
+            commit();
+        }
+    }
+
+    void aggregate(long numerals, String aggregateOutcome) {
+        end();
+        if (shouldCommit()) {
+            endpoint = AGGREGATE;
+            direction = ROMAN_TO_ARABIC;
+            items = numerals;
+            outcome = aggregateOutcome;
+            format = ResponseFormat.JSON.name();
+            commit();
+        }
+    }
+
+    private void get(ResponseFormat responseFormat, ConversionResult result) {
+        endpoint = GET;
+        items = 1;
+        format = responseFormat.name();
+        outcome = result.isValid() ? SUCCESS : result.error().name();
+        commit();
+    }
+}
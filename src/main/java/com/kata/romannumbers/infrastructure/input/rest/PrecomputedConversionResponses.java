@@ -0,0 +1,70 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.zip.CRC32;
+
+/**
+ * Serialized success responses, one per valid value, direction and {@link ResponseFormat}.
+ * <p>
+ * A conversion never changes, so each body is encoded once and served with a strong ETag and an immutable
+ * Cache-Control. Spring answers a matching {@code If-None-Match} with 304 on its own once the returned entity
+ * carries the ETag. The body depends on the {@code Accept} header, which the {@code Vary} header tells caches.
+ */
+@Component
+public class PrecomputedConversionResponses {
+
+    private static final int MAX_ARABIC_VALUE = 3999;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    private final ResponseEncoder encoder;
+    // Filled on first use; racing threads build equal responses, so either one may be kept
+    private final ResponseEntity<?>[][] arabicToRoman = new ResponseEntity<?>[ResponseFormat.values().length][MAX_ARABIC_VALUE + 1];
+    private final ResponseEntity<?>[][] romanToArabic = new ResponseEntity<?>[ResponseFormat.values().length][MAX_ARABIC_VALUE + 1];
+
+    public PrecomputedConversionResponses(ResponseEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    public ResponseEntity<?> arabicToRoman(ConversionResult result, ResponseFormat format) {
+        ResponseEntity<?>[] responses = arabicToRoman[format.ordinal()];
+        ResponseEntity<?> response = responses[result.arabic()];
+        if (response == null) {
+            response = responseOf(format,
+                    encoder.encode(format, new ArabicToRomanNumberResponse(result.arabic(), result.roman())));
+            responses[result.arabic()] = response;
+        }
+        return response;
+    }
+
+    public ResponseEntity<?> romanToArabic(ConversionResult result, ResponseFormat format) {
+        ResponseEntity<?>[] responses = romanToArabic[format.ordinal()];
+        ResponseEntity<?> response = responses[result.arabic()];
+        if (response == null) {
+            response = responseOf(format,
+                    encoder.encode(format, new RomanToArabicNumberResponse(result.roman(), result.arabic())));
+            responses[result.arabic()] = response;
+        }
+        return response;
+    }
+
+    private static ResponseEntity<byte[]> responseOf(ResponseFormat format, byte[] bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .cacheControl(CACHE_CONTROL)
+                .eTag(Long.toHexString(checksum.getValue()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(bytes);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionFailure;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.FailureReason;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Encodes the REST response records in every {@link ResponseFormat}.
+ * <p>
+ * The Jackson formats share the configuration of the application {@link ObjectMapper}, so CBOR and Smile carry
+ * the same fields as JSON. Protobuf uses the {@code ConversionReply} message of the gRPC API: conversions set
+ * {@code arabic} and {@code roman}, errors set {@code failure}.
+ */
+@Component
+public class ResponseEncoder {
+
+    private final Map<ResponseFormat, ObjectWriter> writers = new EnumMap<>(ResponseFormat.class);
+
+    public ResponseEncoder(ObjectMapper objectMapper) {
+        ObjectWriter json = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        writers.put(ResponseFormat.JSON, json);
+        writers.put(ResponseFormat.CBOR, objectMapper.copyWith(new CBORFactory()).writer()
+                .without(SerializationFeature.INDENT_OUTPUT));
+        writers.put(ResponseFormat.SMILE, objectMapper.copyWith(new SmileFactory()).writer()
+                .without(SerializationFeature.INDENT_OUTPUT));
+    }
+
+    public byte[] encode(ResponseFormat format, ArabicToRomanNumberResponse response) {
+        if (format == ResponseFormat.PROTOBUF) {
+            return ConversionReply.newBuilder()
+                    .setArabic(response.arabic())
+                    .setRoman(response.roman())
+                    .build()
+                    .toByteArray();
+        }
+        return write(format, response);
+    }
+
+    public byte[] encode(ResponseFormat format, RomanToArabicNumberResponse response) {
+        if (format == ResponseFormat.PROTOBUF) {
+            return ConversionReply.newBuilder()
+                    .setArabic(response.arabic())
+                    .setRoman(response.roman())
+                    .build()
+                    .toByteArray();
+        }
+        return write(format, response);
+    }
+
+    /**
+     * @param cause the conversion error behind the response, or null for request errors
+     */
+    public byte[] encode(ResponseFormat format, ErrorResponse response, ConversionError cause) {
+        if (format == ResponseFormat.PROTOBUF) {
+            return ConversionReply.newBuilder()
+                    .setFailure(ConversionFailure.newBuilder()
+                            .setReason(cause == null ? FailureReason.FAILURE_REASON_UNSPECIFIED
+                                    : FailureReason.valueOf(cause.name()))
+                            .setError(response.error())
+                            .setMessage(response.message()))
+                    .build()
+                    .toByteArray();
+        }
+        return write(format, response);
+    }
+
+    private byte[] write(ResponseFormat format, Object response) {
+        try {
+            return writers.get(format).writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
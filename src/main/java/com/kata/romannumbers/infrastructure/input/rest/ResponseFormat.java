@@ -0,0 +1,83 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodings the GET adapters can answer with, chosen from the {@code Accept} header.
+ * <p>
+ * JSON stays the default: it is used when the header is absent, accepts anything, or names no supported
+ * encoding. Callers send few distinct {@code Accept} values, so each one is negotiated once and cached.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(new MediaType("application", "x-protobuf"));
+
+    private static final int MAX_CACHED_HEADERS = 256;
+    private static final ResponseFormat[] FORMATS = values();
+    private static final Map<String, ResponseFormat> NEGOTIATED = new ConcurrentHashMap<>();
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        ResponseFormat format = NEGOTIATED.get(accept);
+        if (format == null) {
+            format = select(accept);
+            if (NEGOTIATED.size() < MAX_CACHED_HEADERS) {
+                NEGOTIATED.put(accept, format);
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Picks the format with the highest quality value, where the quality of a format comes from the most specific
+     * range that matches it. On a tie an exact media type beats a wildcard, and then the declaration order decides.
+     */
+    private static ResponseFormat select(String accept) {
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return JSON;
+        }
+        ResponseFormat best = JSON;
+        double bestScore = 0;
+        for (ResponseFormat format : FORMATS) {
+            int specificity = -1;
+            double quality = 0;
+            for (MediaType accepted : acceptedTypes) {
+                int candidate = accepted.isWildcardType() ? 0 : accepted.isWildcardSubtype() ? 1 : 2;
+                if (candidate > specificity && accepted.includes(format.mediaType)) {
+                    specificity = candidate;
+                    quality = accepted.getQualityValue();
+                }
+            }
+            // Quality values have three decimals at most, so the specificity bonus never outweighs them
+            double score = quality + specificity * 0.0001;
+            if (quality > 0 && score > bestScore) {
+                best = format;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,151 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanNumeralAggregate;
+import com.kata.romannumbers.application.RomanToArabicNumberAggregator;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.HistogramBucketResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberAggregateResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sum, count, min, max and value histogram of a JSON array or NDJSON sequence of roman numerals.
+ * <p>
+ * The body is tokenized incrementally and handed to the aggregator a chunk at a time, so memory use does not
+ * depend on the number of numerals. Non-string elements count as invalid.
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/roman-numbers/roman-to-arabic/aggregate")
+@RequiredArgsConstructor
+public class RomanToArabicNumberAggregationPostAdapter {
+
+    private static final int MIN_ARABIC_VALUE = 1;
+    private static final int MAX_ARABIC_VALUE = 3999;
+
+    private final RomanToArabicNumberAggregator aggregator;
+    private final ArabicToRomanNumberConverter arabicToRoman;
+    private final ObjectMapper objectMapper;
+    private final ConversionMetrics conversionMetrics;
+
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> perform(InputStream body,
+                                     @RequestParam(defaultValue = "100") int bucketSize,
+                                     @RequestParam(defaultValue = "false") boolean roman) throws IOException {
+        log.debug("POST /api/v1/roman-numbers/roman-to-arabic/aggregate with bucket size {}", bucketSize);
+        ConversionRequestEvent event = ConversionRequestEvent.start();
+        if (bucketSize < MIN_ARABIC_VALUE || bucketSize > MAX_ARABIC_VALUE) {
+            conversionMetrics.countError(ConversionMetrics.INVALID_REQUEST);
+            event.aggregate(0, ConversionRequestEvent.INVALID_REQUEST);
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid Request Parameter",
+                    String.format("bucketSize must be between %d and %d", MIN_ARABIC_VALUE, MAX_ARABIC_VALUE)));
+        }
+
+        RomanNumeralAggregate aggregate;
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            aggregate = aggregator.aggregate(new JsonNumeralSource(parser), bucketSize);
+        } catch (JsonProcessingException ex) {
+            conversionMetrics.countError(ConversionMetrics.INVALID_REQUEST);
+            event.aggregate(0, ConversionRequestEvent.MALFORMED_BODY);
+            return ResponseEntity.badRequest().body(new ErrorResponse("Malformed Request Body",
+                    ex.getOriginalMessage()));
+        }
+        ResponseEntity<?> response = ResponseEntity.ok(toResponse(aggregate, roman));
+        event.aggregate(aggregate.count() + aggregate.invalid(), aggregate.invalid() > 0
+                ? ConversionRequestEvent.INVALID_ITEMS
+                : ConversionRequestEvent.SUCCESS);
+        return response;
+    }
+
+    private RomanToArabicNumberAggregateResponse toResponse(RomanNumeralAggregate aggregate, boolean roman) {
+        boolean empty = aggregate.count() == 0;
+        List<HistogramBucketResponse> histogram = new ArrayList<>();
+        for (int i = 0; i < aggregate.bucketCount(); i++) {
+            if (aggregate.bucket(i) > 0) {
+                int from = aggregate.bucketFrom(i);
+                int to = aggregate.bucketTo(i);
+                histogram.add(new HistogramBucketResponse(from, to, aggregate.bucket(i),
+                        roman ? romanOf(from) : null, roman ? romanOf(to) : null));
+            }
+        }
+        return new RomanToArabicNumberAggregateResponse(
+                aggregate.count(),
+                aggregate.invalid(),
+                aggregate.sum(),
+                empty ? null : aggregate.min(),
+                empty ? null : aggregate.max(),
+                roman ? romanOf(aggregate.sum()) : null,
+                roman && !empty ? romanOf(aggregate.min()) : null,
+                roman && !empty ? romanOf(aggregate.max()) : null,
+                histogram);
+    }
+
+    /**
+     * @return the roman form of {@code value}, or {@code null} when it cannot be written as a roman numeral
+     */
+    private String romanOf(long value) {
+        if (value < MIN_ARABIC_VALUE || value > MAX_ARABIC_VALUE) {
+            return null;
+        }
+        ConversionResult result = arabicToRoman.tryPerform((int) value);
+        return result.roman();
+    }
+
+    /**
+     * Reads the elements of a top-level JSON array, or a sequence of root-level values, as numerals.
+     */
+    private static final class JsonNumeralSource implements RomanToArabicNumberAggregator.NumeralSource {
+
+        private final JsonParser parser;
+        private JsonToken token;
+        private boolean started;
+
+        private JsonNumeralSource(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public int read(CharSequence[] chunk) throws IOException {
+            if (!started) {
+                started = true;
+                token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    token = parser.nextToken();
+                }
+            }
+            int count = 0;
+            while (count < chunk.length && token != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_STRING) {
+                    chunk[count++] = parser.getText();
+                } else {
+                    parser.skipChildren();
+                    chunk[count++] = null;
+                }
+                token = parser.nextToken();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.input.rest.model.BatchItemErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/roman-numbers/roman-to-arabic/batch")
+@RequiredArgsConstructor
+public class RomanToArabicNumberBatchPostAdapter {
+
+    private final RomanToArabicNumberConverter converter;
+    private final BatchConversionStreamer streamer;
+
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> perform(InputStream body) {
+        log.debug("POST /api/v1/roman-numbers/roman-to-arabic/batch");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamer.stream(body, ConversionRequestEvent.ROMAN_TO_ARABIC, this::convert));
+    }
+
+    private Object convert(JsonNode item) {
+        if (!item.isTextual()) {
+            String input = BatchConversionStreamer.inputOf(item);
+            return new BatchItemErrorResponse(input, "Type mismatch error",
+                    String.format("Invalid parameter type: '%s' cannot be converted to String", input));
+        }
+
+        String roman = item.textValue();
+        ConversionResult result = converter.tryPerform(roman);
+        if (!result.isValid()) {
+            return new BatchItemErrorResponse(roman,
+                    PrecomputedErrorResponses.titleOf(result.error()), result.error().message());
+        }
+        return new RomanToArabicNumberResponse(result.roman(), result.arabic());
+    }
+}
@@ -0,0 +1,74 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Admission control in front of the GET conversion endpoints. The batch and aggregation endpoints are left out:
+ * their latency grows with the size of the request and would drive the concurrency limit down.
+ * <p>
+ * The limiter state is published as the {@code roman.numbers.admission.concurrency.limit} and
+ * {@code roman.numbers.admission.concurrency.in.flight} gauges, and rejections as
+ * {@code roman.numbers.admission.rejected} tagged by reason.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "roman-numbers.admission.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControlConfiguration {
+
+    // After Boot's request observation filter, so that rejections are still recorded as HTTP requests
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionProperties properties,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 MeterRegistry registry)
+            throws JsonProcessingException {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(properties.concurrency());
+        Gauge.builder("roman.numbers.admission.concurrency.limit", limiter, AimdConcurrencyLimiter::limit)
+                .description("Current adaptive limit of conversion requests in flight")
+                .register(registry);
+        Gauge.builder("roman.numbers.admission.concurrency.in.flight", limiter, AimdConcurrencyLimiter::inFlight)
+                .description("Conversion requests in flight")
+                .register(registry);
+
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                properties.clientHeader(),
+                properties.trustClientHeader(),
+                Set.copyOf(properties.trustedProxies()),
+                new StripedTokenBuckets(properties.rateLimit()),
+                limiter,
+                objectMapper.writeValueAsBytes(new ErrorResponse("Too Many Requests",
+                        "Request rate limit exceeded, retry later")),
+                objectMapper.writeValueAsBytes(new ErrorResponse("Service Unavailable",
+                        "Server is at its concurrency limit, retry later")),
+                rejections(registry, "rate_limited"),
+                rejections(registry, "overloaded"));
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/roman-numbers/arabic-to-roman", "/api/v1/roman-numbers/roman-to-arabic");
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    private static Counter rejections(MeterRegistry registry, String reason) {
+        return Counter.builder("roman.numbers.admission.rejected")
+                .description("Requests rejected by admission control")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
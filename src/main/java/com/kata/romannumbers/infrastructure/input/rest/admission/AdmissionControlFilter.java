@@ -0,0 +1,97 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import com.kata.romannumbers.infrastructure.warmup.WarmUpTraffic;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Rejects a request before it reaches the adapters when its client is over its rate (429) or the server is
+ * over its concurrency limit (503). Rejection bodies are serialized once, in the {@code ErrorResponse} format.
+ * Requests marked as {@link WarmUpTraffic} bypass both limits.
+ */
+class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final String clientHeader;
+    private final boolean trustClientHeader;
+    private final Set<String> trustedProxies;
+    private final StripedTokenBuckets buckets;
+    private final AimdConcurrencyLimiter limiter;
+    private final byte[] rateLimitedBody;
+    private final byte[] overloadedBody;
+    private final Counter rateLimited;
+    private final Counter overloaded;
+
+    AdmissionControlFilter(String clientHeader, boolean trustClientHeader, Set<String> trustedProxies,
+                           StripedTokenBuckets buckets, AimdConcurrencyLimiter limiter,
+                           byte[] rateLimitedBody, byte[] overloadedBody, Counter rateLimited, Counter overloaded) {
+        this.clientHeader = clientHeader;
+        this.trustClientHeader = trustClientHeader;
+        this.trustedProxies = trustedProxies;
+        this.buckets = buckets;
+        this.limiter = limiter;
+        this.rateLimitedBody = rateLimitedBody;
+        this.overloadedBody = overloadedBody;
+        this.rateLimited = rateLimited;
+        this.overloaded = overloaded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (request.getAttribute(WarmUpTraffic.ATTRIBUTE) != null) {
+            // Warm-up responses are slow until the code is compiled and would only drive the limit down
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!buckets.tryAcquire(clientKeyOf(request))) {
+            rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, rateLimitedBody);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            overloaded.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, overloadedBody);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private Object clientKeyOf(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (trustClientHeader || trustedProxies.contains(remoteAddress)) {
+            String client = request.getHeader(clientHeader);
+            if (client != null) {
+                return client;
+            }
+        }
+        return remoteAddress;
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,44 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Clients are keyed by their remote address. {@code clientHeader} names the client instead only when the request
+ * comes from one of the {@code trustedProxies}, or from any peer when {@code trustClientHeader} is set; otherwise
+ * a client could pick a fresh key per request and never be limited.
+ */
+@ConfigurationProperties("roman-numbers.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Client-Id") String clientHeader,
+        @DefaultValue("false") boolean trustClientHeader,
+        @DefaultValue List<String> trustedProxies,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue Concurrency concurrency) {
+
+    /**
+     * Token bucket per client key: {@code perSecond} tokens are added each second, up to {@code burst}.
+     * Keys are hashed onto {@code stripes} buckets.
+     */
+    public record RateLimit(
+            @DefaultValue("2000") int perSecond,
+            @DefaultValue("4000") int burst,
+            @DefaultValue("4096") int stripes) {
+    }
+
+    /**
+     * AIMD limit on requests in flight. A response slower than {@code latencyThreshold}, or a 5xx, multiplies the
+     * limit by {@code backoffRatio}; any other response while at least half the limit is in use adds one.
+     */
+    public record Concurrency(
+            @DefaultValue("100") int initialLimit,
+            @DefaultValue("10") int minLimit,
+            @DefaultValue("1000") int maxLimit,
+            @DefaultValue("100ms") Duration latencyThreshold,
+            @DefaultValue("0.9") double backoffRatio) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the requests in flight with a limit that follows observed latency: additive increase while responses
+ * are fast and the limit is actually being used, multiplicative decrease when a response is slow or failed.
+ */
+class AimdConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    AimdConcurrencyLimiter(AdmissionProperties.Concurrency concurrency) {
+        if (concurrency.minLimit() <= 0 || concurrency.minLimit() > concurrency.maxLimit()) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 0 < min <= max");
+        }
+        if (concurrency.backoffRatio() <= 0 || concurrency.backoffRatio() >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = concurrency.minLimit();
+        this.maxLimit = concurrency.maxLimit();
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, concurrency.initialLimit())));
+        this.latencyThresholdNanos = concurrency.latencyThreshold().toNanos();
+        this.backoffRatio = concurrency.backoffRatio();
+    }
+
+    /**
+     * @return false when the limit is reached; otherwise the caller must call {@link #release} once done
+     */
+    boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (inFlightBefore * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,71 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for an unbounded set of client keys in a fixed amount of memory.
+ * <p>
+ * Keys are hashed onto a power-of-two number of stripes; keys sharing a stripe share its bucket. Each bucket is
+ * kept in GCRA form: a single long holding the theoretical arrival time of the next request, which is equivalent
+ * to a token bucket but needs no separate token count and no fractional refill. Taking a token is one CAS on
+ * that long. Stripes are spaced a cache line apart so that busy clients do not contend on the same line.
+ */
+class StripedTokenBuckets {
+
+    private static final int LONGS_PER_CACHE_LINE = 8;
+
+    private final AtomicLongArray arrivalTimes;
+    private final int mask;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    StripedTokenBuckets(int perSecond, int burst, int stripes, LongSupplier nanoClock) {
+        if (perSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.arrivalTimes = new AtomicLongArray(stripeCount * LONGS_PER_CACHE_LINE);
+        this.mask = stripeCount - 1;
+        this.emissionInterval = TimeUnit.SECONDS.toNanos(1) / perSecond;
+        this.burstTolerance = emissionInterval * burst;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    StripedTokenBuckets(AdmissionProperties.RateLimit rateLimit) {
+        this(rateLimit.perSecond(), rateLimit.burst(), rateLimit.stripes(), System::nanoTime);
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     *
+     * @return false when the bucket is empty
+     */
+    boolean tryAcquire(Object key) {
+        int index = stripeOf(key) * LONGS_PER_CACHE_LINE;
+        long now = nanoClock.getAsLong() - origin;
+        while (true) {
+            long arrival = arrivalTimes.get(index);
+            long next = Math.max(arrival, now) + emissionInterval;
+            if (next - now > burstTolerance) {
+                return false;
+            }
+            if (arrivalTimes.compareAndSet(index, arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    private int stripeOf(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
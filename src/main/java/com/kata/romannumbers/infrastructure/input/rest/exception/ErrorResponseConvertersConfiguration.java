@@ -0,0 +1,27 @@
+package com.kata.romannumbers.infrastructure.input.rest.exception;
+
+import com.kata.romannumbers.infrastructure.input.rest.ResponseEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Appends the protobuf error converter after the default converters. A converter bean would be placed first
+ * and win over JSON for {@code Accept: *}{@code /*}; at the end it is only chosen when protobuf is asked for.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ErrorResponseConvertersConfiguration implements WebMvcConfigurer {
+
+    private final ResponseEncoder encoder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ErrorResponseProtobufHttpMessageConverter(encoder));
+    }
+}
@@ -0,0 +1,47 @@
+package com.kata.romannumbers.infrastructure.input.rest.exception;
+
+import com.kata.romannumbers.infrastructure.input.rest.ResponseEncoder;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes the {@link ErrorResponse} bodies of {@link GlobalExceptionHandler} as a protobuf {@code ConversionReply},
+ * so that callers accepting only protobuf also get a readable error. CBOR and Smile need no converter of their
+ * own: Spring MVC registers Jackson converters for them when the data formats are on the classpath.
+ */
+public class ErrorResponseProtobufHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+
+    private final ResponseEncoder encoder;
+
+    public ErrorResponseProtobufHttpMessageConverter(ResponseEncoder encoder) {
+        super(ResponseFormat.PROTOBUF.mediaType());
+        this.encoder = encoder;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ErrorResponse readInternal(Class<? extends ErrorResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Error responses are never read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponse errorResponse, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(encoder.encode(ResponseFormat.PROTOBUF, errorResponse, null));
+    }
+}
@@ -1,8 +1,9 @@
 package com.kata.romannumbers.infrastructure.input.rest.exception;
 
-import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
-import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
 import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -10,23 +11,20 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+/**
+ * Error bodies for request binding failures and unexpected errors. Invalid numbers never get here: the adapters
+ * convert with {@code tryPerform} and answer them with {@link PrecomputedErrorResponses}.
+ */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(InvalidRomanNumberException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidRomanNumberException(InvalidRomanNumberException ex) {
-        ErrorResponse errorResponse = new ErrorResponse("Invalid Roman Number", ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
-    }
-
-    @ExceptionHandler(InvalidArabicNumberException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidArabicNumberException(InvalidArabicNumberException ex) {
-        ErrorResponse errorResponse = new ErrorResponse("Invalid Arabic Number", ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
-    }
+    private final ConversionMetrics conversionMetrics;
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        conversionMetrics.countError(ConversionMetrics.TYPE_MISMATCH);
         String message = String.format("Invalid parameter type: '%s' cannot be converted to %s",
                 ex.getValue(), ex.getRequiredType().getSimpleName());
         ErrorResponse errorResponse = new ErrorResponse(
@@ -39,6 +37,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ErrorResponse> handleMissingServletRequestParameterException(
             MissingServletRequestParameterException ex) {
+        conversionMetrics.countError(ConversionMetrics.MISSING_PARAMETER);
         ErrorResponse errorResponse = new ErrorResponse(
                 "Missing Request Parameter",
                 ex.getMessage()
@@ -48,6 +47,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        conversionMetrics.countError(ConversionMetrics.INTERNAL_ERROR);
         ErrorResponse errorResponse = new ErrorResponse(
                 "Internal server error",
                 "An unexpected error occurred"
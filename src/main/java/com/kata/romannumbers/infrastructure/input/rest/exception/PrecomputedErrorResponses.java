@@ -0,0 +1,52 @@
+package com.kata.romannumbers.infrastructure.input.rest.exception;
+
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseEncoder;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseFormat;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Error responses for each {@link ConversionError} and {@link ResponseFormat}, serialized once at startup so
+ * that rejecting invalid input costs no more than answering valid input.
+ */
+@Component
+public class PrecomputedErrorResponses {
+
+    private final Map<ResponseFormat, Map<ConversionError, ResponseEntity<byte[]>>> responses =
+            new EnumMap<>(ResponseFormat.class);
+    private final ConversionMetrics conversionMetrics;
+
+    public PrecomputedErrorResponses(ResponseEncoder encoder, ConversionMetrics conversionMetrics) {
+        this.conversionMetrics = conversionMetrics;
+        for (ResponseFormat format : ResponseFormat.values()) {
+            Map<ConversionError, ResponseEntity<byte[]>> byError = new EnumMap<>(ConversionError.class);
+            for (ConversionError error : ConversionError.values()) {
+                ErrorResponse errorResponse = new ErrorResponse(titleOf(error), error.message());
+                byError.put(error, ResponseEntity.badRequest()
+                        .contentType(format.mediaType())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(encoder.encode(format, errorResponse, error)));
+            }
+            responses.put(format, byError);
+        }
+    }
+
+    public ResponseEntity<byte[]> of(ConversionError error, ResponseFormat format) {
+        conversionMetrics.countError(error);
+        return responses.get(format).get(error);
+    }
+
+    public static String titleOf(ConversionError error) {
+        return switch (error) {
+            case ARABIC_OUT_OF_RANGE -> "Invalid Arabic Number";
+            case ROMAN_NULL_OR_EMPTY, ROMAN_INVALID_FORMAT -> "Invalid Roman Number";
+        };
+    }
+}
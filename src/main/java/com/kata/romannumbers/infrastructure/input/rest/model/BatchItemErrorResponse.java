@@ -0,0 +1,4 @@
+package com.kata.romannumbers.infrastructure.input.rest.model;
+
+public record BatchItemErrorResponse(String input, String error, String message) {
+}
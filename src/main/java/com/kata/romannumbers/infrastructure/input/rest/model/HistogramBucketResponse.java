@@ -0,0 +1,4 @@
+package com.kata.romannumbers.infrastructure.input.rest.model;
+
+public record HistogramBucketResponse(int from, int to, long count, String romanFrom, String romanTo) {
+}
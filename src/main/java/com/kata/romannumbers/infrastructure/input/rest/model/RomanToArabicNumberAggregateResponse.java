@@ -0,0 +1,14 @@
+package com.kata.romannumbers.infrastructure.input.rest.model;
+
+import java.util.List;
+
+public record RomanToArabicNumberAggregateResponse(long count,
+                                                   long invalid,
+                                                   long sum,
+                                                   Integer min,
+                                                   Integer max,
+                                                   String romanSum,
+                                                   String romanMin,
+                                                   String romanMax,
+                                                   List<HistogramBucketResponse> histogram) {
+}
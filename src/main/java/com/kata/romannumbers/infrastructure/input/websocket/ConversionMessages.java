@@ -0,0 +1,217 @@
+package com.kata.romannumbers.infrastructure.input.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.RomanToArabicNumberResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Turns one request message into its reply.
+ * <p>
+ * A request is a JSON object with an optional {@code id} (a string or an integer) and exactly one of
+ * {@code arabic} or {@code roman}: {@code {"id":7,"arabic":1994}}. The reply echoes the id and carries the same
+ * fields as the REST response, or the fields of an {@code ErrorResponse}:
+ * {@code {"id":7,"arabic":1994,"roman":"MCMXCIV"}}. Everything after the id is serialized once per value and
+ * direction and once per error, so a reply is the id spliced in front of a shared string.
+ */
+class ConversionMessages {
+
+    private static final int MAX_ARABIC_VALUE = 3999;
+    private static final String ID_FIELD = "id";
+    private static final String ARABIC_FIELD = "arabic";
+    private static final String ROMAN_FIELD = "roman";
+
+    private final ArabicToRomanNumberConverter arabicToRomanConverter;
+    private final RomanToArabicNumberConverter romanToArabicConverter;
+    private final ConversionMetrics conversionMetrics;
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter writer;
+
+    // Serialized bodies without their opening brace, so that the id can go in front. The conversions are filled
+    // on first use; racing threads build equal strings, so either one may be kept
+    private final String[] arabicToRoman = new String[MAX_ARABIC_VALUE + 1];
+    private final String[] romanToArabic = new String[MAX_ARABIC_VALUE + 1];
+    private final Map<ConversionError, String> failures = new EnumMap<>(ConversionError.class);
+    private final String malformedId;
+    private final String missingValue;
+    private final String ambiguousValue;
+
+    ConversionMessages(ArabicToRomanNumberConverter arabicToRomanConverter,
+                       RomanToArabicNumberConverter romanToArabicConverter,
+                       ConversionMetrics conversionMetrics,
+                       ObjectMapper objectMapper) {
+        this.arabicToRomanConverter = arabicToRomanConverter;
+        this.romanToArabicConverter = romanToArabicConverter;
+        this.conversionMetrics = conversionMetrics;
+        this.jsonFactory = objectMapper.getFactory();
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+        for (ConversionError error : ConversionError.values()) {
+            failures.put(error, fieldsOf(new ErrorResponse(PrecomputedErrorResponses.titleOf(error), error.message())));
+        }
+        this.malformedId = fieldsOf(new ErrorResponse("Invalid Request Parameter",
+                "Field 'id' must be a string or an integer"));
+        this.missingValue = fieldsOf(new ErrorResponse("Missing Request Parameter",
+                "Required field 'arabic' or 'roman' is not present"));
+        this.ambiguousValue = fieldsOf(new ErrorResponse("Invalid Request Parameter",
+                "Only one of 'arabic' or 'roman' may be present"));
+    }
+
+    String reply(String message) {
+        String id = null;
+        boolean idIsValid = true;
+        boolean hasArabic = false;
+        int arabic = 0;
+        boolean hasRoman = false;
+        String roman = null;
+        String mismatch = null;
+
+        try (JsonParser parser = jsonFactory.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return malformed(null, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case ID_FIELD -> {
+                        id = idOf(parser, value);
+                        idIsValid = id != null || value == JsonToken.VALUE_NULL;
+                    }
+                    case ARABIC_FIELD -> {
+                        hasArabic = value != JsonToken.VALUE_NULL;
+                        if (value == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+                            arabic = parser.getIntValue();
+                        } else if (hasArabic) {
+                            mismatch = typeMismatch(parser, value, "Integer");
+                        }
+                    }
+                    case ROMAN_FIELD -> {
+                        hasRoman = true;
+                        if (value == JsonToken.VALUE_STRING || value == JsonToken.VALUE_NULL) {
+                            roman = parser.getValueAsString();
+                        } else {
+                            mismatch = typeMismatch(parser, value, "String");
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                return malformed(id, "Unexpected content after the JSON object");
+            }
+        } catch (JsonProcessingException ex) {
+            return malformed(id, ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (!idIsValid) {
+            return error(null, ConversionMetrics.INVALID_REQUEST, malformedId);
+        }
+        if (mismatch != null) {
+            return error(id, ConversionMetrics.TYPE_MISMATCH, mismatch);
+        }
+        if (hasArabic == hasRoman) {
+            return hasArabic
+                    ? error(id, ConversionMetrics.INVALID_REQUEST, ambiguousValue)
+                    : error(id, ConversionMetrics.MISSING_PARAMETER, missingValue);
+        }
+
+        ConversionResult result = hasArabic
+                ? arabicToRomanConverter.tryPerform(arabic)
+                : romanToArabicConverter.tryPerform(roman);
+        if (!result.isValid()) {
+            conversionMetrics.countError(result.error());
+            return replyOf(id, failures.get(result.error()));
+        }
+        return replyOf(id, hasArabic ? arabicToRomanFields(result) : romanToArabicFields(result));
+    }
+
+    private String arabicToRomanFields(ConversionResult result) {
+        String fields = arabicToRoman[result.arabic()];
+        if (fields == null) {
+            fields = fieldsOf(new ArabicToRomanNumberResponse(result.arabic(), result.roman()));
+            arabicToRoman[result.arabic()] = fields;
+        }
+        return fields;
+    }
+
+    private String romanToArabicFields(ConversionResult result) {
+        String fields = romanToArabic[result.arabic()];
+        if (fields == null) {
+            fields = fieldsOf(new RomanToArabicNumberResponse(result.roman(), result.arabic()));
+            romanToArabic[result.arabic()] = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * @return the id as it goes into the reply, or {@code null} when it is absent or neither a string nor an integer
+     */
+    private static String idOf(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getText();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(parser.getText())) + '"';
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private String typeMismatch(JsonParser parser, JsonToken value, String type) throws IOException {
+        String input = value.isScalarValue() ? parser.getText() : value.asString();
+        parser.skipChildren();
+        return fieldsOf(new ErrorResponse("Type mismatch error",
+                String.format("Invalid parameter type: '%s' cannot be converted to %s", input, type)));
+    }
+
+    private String malformed(String id, String message) {
+        return error(id, ConversionMetrics.INVALID_REQUEST, fieldsOf(new ErrorResponse("Malformed Request Body",
+                message)));
+    }
+
+    private String error(String id, String type, String fields) {
+        conversionMetrics.countError(type);
+        return replyOf(id, fields);
+    }
+
+    private static String replyOf(String id, String fields) {
+        if (id == null) {
+            return "{" + fields;
+        }
+        return new StringBuilder(id.length() + fields.length() + 7)
+                .append("{\"id\":")
+                .append(id)
+                .append(',')
+                .append(fields)
+                .toString();
+    }
+
+    private String fieldsOf(Object body) {
+        try {
+            return writer.writeValueAsString(body).substring(1);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kata.romannumbers.infrastructure.input.websocket;
+
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket counterpart of the GET conversion adapters: a client keeps one session open and sends one request per
+ * text message, in either direction (see {@link ConversionMessages} for the format).
+ * <p>
+ * The container delivers the messages of a session one at a time, and each reply is sent from the thread that
+ * received the request, so replies leave in request order and a session never has two sends in flight. Binary
+ * messages close the session.
+ */
+@Slf4j
+public class ConversionWebSocketHandler extends TextWebSocketHandler {
+
+    private final ConversionMessages messages;
+    private final WebSocketProperties properties;
+    private final AtomicInteger openSessions = new AtomicInteger();
+
+    ConversionWebSocketHandler(ConversionMessages messages, WebSocketProperties properties) {
+        this.messages = messages;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.setTextMessageSizeLimit((int) properties.maxMessageSize().toBytes());
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            Session standardSession = nativeSession.getNativeSession(Session.class);
+            if (standardSession != null) {
+                standardSession.setMaxIdleTimeout(properties.idleTimeout().toMillis());
+            }
+        }
+        openSessions.incrementAndGet();
+        log.debug("WebSocket session {} opened from {}", session.getId(), session.getRemoteAddress());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        session.sendMessage(new TextMessage(messages.reply(message.getPayload())));
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket session {} failed: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        openSessions.decrementAndGet();
+        log.debug("WebSocket session {} closed with {}", session.getId(), status);
+    }
+
+    int openSessions() {
+        return openSessions.get();
+    }
+}
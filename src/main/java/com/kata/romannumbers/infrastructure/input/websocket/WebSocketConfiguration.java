@@ -0,0 +1,50 @@
+package com.kata.romannumbers.infrastructure.input.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+
+/**
+ * Serves conversion sessions over WebSocket on the servlet stack. Replies go through the converter beans, so they
+ * are metered and journaled like the REST conversions; open sessions are published as the
+ * {@code roman.numbers.websocket.sessions} gauge.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "roman-numbers.websocket.enabled", havingValue = "true", matchIfMissing = true)
+@EnableWebSocket
+@EnableConfigurationProperties(WebSocketProperties.class)
+public class WebSocketConfiguration {
+
+    @Bean
+    public ConversionWebSocketHandler conversionWebSocketHandler(WebSocketProperties properties,
+                                                                 ArabicToRomanNumberConverter arabicToRomanConverter,
+                                                                 RomanToArabicNumberConverter romanToArabicConverter,
+                                                                 ConversionMetrics conversionMetrics,
+                                                                 ObjectMapper objectMapper,
+                                                                 MeterRegistry registry) {
+        ConversionWebSocketHandler handler = new ConversionWebSocketHandler(new ConversionMessages(
+                arabicToRomanConverter, romanToArabicConverter, conversionMetrics, objectMapper), properties);
+        Gauge.builder("roman.numbers.websocket.sessions", handler, ConversionWebSocketHandler::openSessions)
+                .description("Open WebSocket conversion sessions")
+                .register(registry);
+        return handler;
+    }
+
+    @Bean
+    public WebSocketConfigurer conversionWebSocketConfigurer(WebSocketProperties properties,
+                                                             ConversionWebSocketHandler handler) {
+        return registry -> registry.addHandler(handler, properties.path())
+                .setAllowedOriginPatterns(properties.allowedOrigins().toArray(String[]::new));
+    }
+}
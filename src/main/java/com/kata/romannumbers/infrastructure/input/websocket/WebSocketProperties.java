@@ -0,0 +1,23 @@
+package com.kata.romannumbers.infrastructure.input.websocket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the WebSocket conversion endpoint. With no {@code allowedOrigins} only same-origin clients (and
+ * clients that send no {@code Origin}, such as other services) may open a session. A text message larger than
+ * {@code maxMessageSize} closes the session with status 1009, and a session with no traffic for
+ * {@code idleTimeout} is closed by the server.
+ */
+@ConfigurationProperties("roman-numbers.websocket")
+public record WebSocketProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/ws/v1/roman-numbers") String path,
+        @DefaultValue List<String> allowedOrigins,
+        @DefaultValue("1KB") DataSize maxMessageSize,
+        @DefaultValue("5m") Duration idleTimeout) {
+}
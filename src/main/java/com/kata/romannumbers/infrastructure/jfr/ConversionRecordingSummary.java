@@ -0,0 +1,132 @@
+package com.kata.romannumbers.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the conversion events of a flight recording into one latency histogram per operation.
+ * Runs without the Spring context through {@code java -jar app.jar jfr-summary <recording.jfr>}.
+ * <p>
+ * An operation is the source of the event ({@code use-case}, {@code rest} for a GET, {@code rest-batch} or
+ * {@code rest-aggregate}), the direction and the outcome, e.g. {@code rest roman-to-arabic ROMAN_INVALID_FORMAT}.
+ */
+public final class ConversionRecordingSummary {
+
+    static final String CONVERSION_EVENT = "com.kata.romannumbers.Conversion";
+    static final String REQUEST_EVENT = "com.kata.romannumbers.ConversionRequest";
+    private static final String ENDPOINT_FIELD = "endpoint";
+    private static final String GET_ENDPOINT = "get";
+
+    private static final int BAR_WIDTH = 40;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private ConversionRecordingSummary() {
+    }
+
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length != 1) {
+            err.println("Usage: jfr-summary <recording.jfr>");
+            return 2;
+        }
+        try {
+            Map<String, LatencyHistogram> operations = summarize(Path.of(args[0]));
+            if (operations.isEmpty()) {
+                err.println("No conversion events in " + args[0]
+                        + ", was the recording started with the jfr/roman-numbers.jfc settings?");
+                return 1;
+            }
+            print(operations, out);
+            return 0;
+        } catch (IOException ex) {
+            err.println("Could not read the recording: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Reads every conversion event of the recording, grouped by operation in name order.
+     */
+    public static Map<String, LatencyHistogram> summarize(Path recording) throws IOException {
+        Map<String, LatencyHistogram> operations = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String source = sourceOf(event);
+                if (source != null) {
+                    String operation = source + " " + event.getString("direction") + " " + event.getString("outcome");
+                    operations.computeIfAbsent(operation, key -> new LatencyHistogram())
+                            .record(event.getDuration().toNanos());
+                }
+            }
+        }
+        return operations;
+    }
+
+    public static void print(Map<String, LatencyHistogram> operations, PrintStream out) {
+        operations.forEach((operation, histogram) -> {
+            StringBuilder line = new StringBuilder(operation)
+                    .append(System.lineSeparator())
+                    .append("  count ").append(histogram.count())
+                    .append("  min ").append(formatNanos(histogram.min()));
+            for (double percentile : PERCENTILES) {
+                line.append("  p").append(formatPercentile(percentile))
+                        .append(' ').append(formatNanos(histogram.percentile(percentile)));
+            }
+            line.append("  max ").append(formatNanos(histogram.max()));
+            out.println(line);
+
+            long[] buckets = histogram.buckets();
+            long highest = 0;
+            for (long bucket : buckets) {
+                highest = Math.max(highest, bucket);
+            }
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] > 0) {
+                    int bar = (int) Math.max(1, buckets[i] * BAR_WIDTH / highest);
+                    out.printf("  < %9s %10d %s%n", formatNanos(1L << i), buckets[i], "#".repeat(bar));
+                }
+            }
+            out.println();
+        });
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * @return {@code use-case}, {@code rest} for a GET, {@code rest-batch} or {@code rest-aggregate}, or
+     * {@code null} for events that are not conversions
+     */
+    private static String sourceOf(RecordedEvent event) {
+        String eventName = event.getEventType().getName();
+        if (CONVERSION_EVENT.equals(eventName)) {
+            return "use-case";
+        }
+        if (REQUEST_EVENT.equals(eventName)) {
+            String endpoint = event.hasField(ENDPOINT_FIELD) ? event.getString(ENDPOINT_FIELD) : null;
+            return endpoint == null || GET_ENDPOINT.equals(endpoint) ? "rest" : "rest-" + endpoint;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kata.romannumbers.infrastructure.jfr;
+
+import java.util.Arrays;
+
+/**
+ * Durations of one operation read from a recording. Keeps every sample so the percentiles are exact,
+ * and groups them into power-of-two nanosecond buckets for display.
+ */
+public final class LatencyHistogram {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] samples = new long[INITIAL_CAPACITY];
+    private int count;
+    private boolean sorted = true;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long min() {
+        return percentile(0);
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+
+    /**
+     * Nearest-rank percentile, in nanoseconds.
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            throw new IllegalStateException("The histogram is empty");
+        }
+        sort();
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return samples[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Sample count per bucket, where bucket {@code i} holds durations in {@code [2^(i-1), 2^i)} nanoseconds
+     * and bucket 0 holds zero. Trailing empty buckets are dropped.
+     */
+    public long[] buckets() {
+        long[] buckets = new long[Long.SIZE];
+        int last = 0;
+        for (int i = 0; i < count; i++) {
+            int bucket = Long.SIZE - Long.numberOfLeadingZeros(samples[i]);
+            buckets[bucket]++;
+            last = Math.max(last, bucket);
+        }
+        return Arrays.copyOf(buckets, last + 1);
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.infrastructure.warmup.WarmUpTraffic;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit trail of conversions.
+ * <p>
+ * Request threads only encode a 32-byte entry into a lock-free ring buffer. A single background thread
+ * drains the ring in batches into rolling memory-mapped segments, which {@link ConversionJournalReader}
+ * decodes. When the writer falls behind, entries are dropped and counted rather than slowing requests down.
+ * Conversions made while serving {@link WarmUpTraffic} are not clients' and are left out.
+ */
+@Slf4j
+public class ConversionJournal implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 4096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final JournalRingBuffer ring;
+    private final MappedJournalWriter writer;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ConversionJournal(JournalProperties properties, MeterRegistry registry) throws IOException {
+        this.ring = new JournalRingBuffer(properties.ringCapacity());
+        this.writer = new MappedJournalWriter(properties.directory(), properties.segmentSize().toBytes(),
+                properties.maxSegments());
+        this.flusher = new Thread(this::flush, "conversion-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        FunctionCounter.builder("roman.numbers.journal.dropped", ring, JournalRingBuffer::dropped)
+                .description("Journal entries dropped because the ring buffer was full")
+                .register(registry);
+    }
+
+    /**
+     * Records a conversion without blocking.
+     *
+     * @return {@code false} when the entry was dropped because the ring buffer is full
+     */
+    public boolean arabicToRoman(int number, ConversionError error) {
+        if (WarmUpTraffic.isCurrent()) {
+            return true;
+        }
+        return ring.offer(System.currentTimeMillis(), JournalFormat.ARABIC_TO_ROMAN, number, null, error);
+    }
+
+    public boolean romanToArabic(CharSequence roman, int arabic, ConversionError error) {
+        if (WarmUpTraffic.isCurrent()) {
+            return true;
+        }
+        return ring.offer(System.currentTimeMillis(), JournalFormat.ROMAN_TO_ARABIC, arabic, roman, error);
+    }
+
+    public boolean romanToArabic(byte[] source, int offset, int length, int arabic, ConversionError error) {
+        if (WarmUpTraffic.isCurrent()) {
+            return true;
+        }
+        return ring.offer(System.currentTimeMillis(), JournalFormat.ROMAN_TO_ARABIC, arabic, source, offset, length, error);
+    }
+
+    /**
+     * Stops accepting work once every entry recorded so far has been written, then forces the segment to disk.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join();
+    }
+
+    private void flush() {
+        try {
+            while (running || !ring.isEmpty()) {
+                if (ring.drain(writer, BATCH_SIZE) == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Conversion journal stopped; further entries will be dropped", ex);
+        } finally {
+            writer.close();
+        }
+    }
+}
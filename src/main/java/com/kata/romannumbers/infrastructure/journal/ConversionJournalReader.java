@@ -0,0 +1,112 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ARABIC_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.DIRECTION_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ENTRY_SIZE;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ERROR_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.HEADER_SIZE;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.INPUT_LENGTH_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.INPUT_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.MAX_INPUT_BYTES;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.TIMESTAMP_OFFSET;
+
+/**
+ * Decodes journal segments. Runs without the Spring context through
+ * {@code java -jar app.jar journal <segment-or-directory>}, printing one line per entry.
+ */
+public final class ConversionJournalReader {
+
+    private static final ArabicToRomanNumberConverter CONVERTER = new ArabicToRomanNumberConverterUseCase();
+
+    private ConversionJournalReader() {
+    }
+
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length != 1) {
+            err.println("Usage: journal <segment-file-or-directory>");
+            return 2;
+        }
+        try {
+            read(Path.of(args[0]), entry -> out.println(format(entry)));
+            return 0;
+        } catch (IOException | UncheckedIOException | IllegalArgumentException ex) {
+            err.println("Could not read the journal: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Reads a single segment or, for a directory, every segment in it in the order they were written.
+     */
+    public static void read(Path path, Consumer<JournalEntry> consumer) throws IOException {
+        if (!Files.isDirectory(path)) {
+            readSegment(path, consumer);
+            return;
+        }
+        for (int index : MappedJournalWriter.segmentIndexes(path)) {
+            readSegment(MappedJournalWriter.segmentPath(path, index), consumer);
+        }
+    }
+
+    public static String format(JournalEntry entry) {
+        boolean arabicToRoman = JournalFormat.DIRECTION_NAMES[JournalFormat.ARABIC_TO_ROMAN].equals(entry.direction());
+        String input;
+        String output;
+        if (arabicToRoman) {
+            input = String.valueOf(entry.arabic());
+            output = entry.isValid() ? CONVERTER.tryPerform(entry.arabic()).roman() : entry.error().name();
+        } else {
+            input = entry.inputLength() > entry.input().length() ? entry.input() + "..." : entry.input();
+            output = entry.isValid() ? String.valueOf(entry.arabic()) : entry.error().name();
+        }
+        return String.format("%s %s %s -> %s", entry.timestamp(), entry.direction(), input, output);
+    }
+
+    private static void readSegment(Path segment, Consumer<JournalEntry> consumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != JournalFormat.MAGIC) {
+            throw new IllegalArgumentException(segment + " is not a conversion journal segment");
+        }
+        if (buffer.getShort(4) != JournalFormat.VERSION || buffer.getShort(6) != ENTRY_SIZE) {
+            throw new IllegalArgumentException(segment + " has an unsupported journal format");
+        }
+
+        byte[] input = new byte[MAX_INPUT_BYTES];
+        for (int offset = HEADER_SIZE; offset + ENTRY_SIZE <= buffer.limit(); offset += ENTRY_SIZE) {
+            long timestamp = buffer.getLong(offset + TIMESTAMP_OFFSET);
+            if (timestamp == 0) {
+                return;
+            }
+            int inputLength = buffer.get(offset + INPUT_LENGTH_OFFSET) & 0xFF;
+            int stored = Math.min(inputLength, MAX_INPUT_BYTES);
+            buffer.get(offset + INPUT_OFFSET, input, 0, stored);
+            consumer.accept(new JournalEntry(
+                    Instant.ofEpochMilli(timestamp),
+                    JournalFormat.DIRECTION_NAMES[buffer.get(offset + DIRECTION_OFFSET)],
+                    buffer.getInt(offset + ARABIC_OFFSET),
+                    new String(input, 0, stored, StandardCharsets.US_ASCII),
+                    inputLength,
+                    JournalFormat.errorOf(buffer.get(offset + ERROR_OFFSET))));
+        }
+    }
+}
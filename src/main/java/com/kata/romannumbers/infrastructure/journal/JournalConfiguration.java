@@ -0,0 +1,33 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+
+/**
+ * Journals the conversions served to web, reactive, lean HTTP and gRPC clients. The bulk file mode keeps its
+ * own output file as its record, so the journal is not set up for it.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!cli")
+@ConditionalOnProperty(name = "roman-numbers.journal.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfiguration {
+
+    @Bean
+    public ConversionJournal conversionJournal(JournalProperties properties, MeterRegistry registry) throws IOException {
+        return new ConversionJournal(properties, registry);
+    }
+
+    @Bean
+    public static JournaledConverterPostProcessor journaledConverterPostProcessor(
+            ObjectProvider<ConversionJournal> journal) {
+        return new JournaledConverterPostProcessor(journal);
+    }
+}
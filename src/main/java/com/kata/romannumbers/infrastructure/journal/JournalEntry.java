@@ -0,0 +1,17 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ConversionError;
+
+import java.time.Instant;
+
+/**
+ * Decoded journal entry. For roman to arabic conversions {@code input} holds at most the first 16
+ * characters, while {@code inputLength} keeps the original length.
+ */
+public record JournalEntry(Instant timestamp, String direction, int arabic, String input, int inputLength,
+                           ConversionError error) {
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
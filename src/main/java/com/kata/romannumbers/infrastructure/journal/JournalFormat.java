@@ -0,0 +1,49 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ConversionError;
+
+/**
+ * Binary layout of the journal segments. All numbers are little-endian.
+ * <pre>
+ * Header (32 bytes)             Entry (32 bytes)
+ *  0  int   magic "RNJ1"         0  long  timestamp, epoch millis (0 marks the end of the data)
+ *  4  short format version       8  byte  direction
+ *  6  short entry size           9  byte  error, 0 or ConversionError ordinal + 1
+ *  8  long  creation millis     10  byte  input length, capped at 255
+ * 16  reserved                  11  byte  reserved
+ *                               12  int   arabic input, or arabic result (0 when rejected)
+ *                               16  16 bytes of roman input, ASCII, truncated
+ * </pre>
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x314A4E52;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int ENTRY_SIZE = 32;
+
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int DIRECTION_OFFSET = 8;
+    static final int ERROR_OFFSET = 9;
+    static final int INPUT_LENGTH_OFFSET = 10;
+    static final int ARABIC_OFFSET = 12;
+    static final int INPUT_OFFSET = 16;
+    static final int MAX_INPUT_BYTES = 16;
+
+    static final byte ARABIC_TO_ROMAN = 0;
+    static final byte ROMAN_TO_ARABIC = 1;
+    static final String[] DIRECTION_NAMES = {"arabic-to-roman", "roman-to-arabic"};
+
+    private static final ConversionError[] ERRORS = ConversionError.values();
+
+    private JournalFormat() {
+    }
+
+    static byte errorCodeOf(ConversionError error) {
+        return error == null ? 0 : (byte) (error.ordinal() + 1);
+    }
+
+    static ConversionError errorOf(int code) {
+        return code == 0 ? null : ERRORS[code - 1];
+    }
+}
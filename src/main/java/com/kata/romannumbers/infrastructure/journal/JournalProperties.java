@@ -0,0 +1,16 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties("roman-numbers.journal")
+public record JournalProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("8") int maxSegments,
+        @DefaultValue("65536") int ringCapacity) {
+}
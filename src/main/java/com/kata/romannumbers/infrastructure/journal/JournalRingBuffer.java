@@ -0,0 +1,147 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ConversionError;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ARABIC_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.DIRECTION_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ENTRY_SIZE;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ERROR_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.INPUT_LENGTH_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.INPUT_OFFSET;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.MAX_INPUT_BYTES;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.TIMESTAMP_OFFSET;
+
+/**
+ * Bounded multi-producer, single-consumer ring of encoded journal entries.
+ * <p>
+ * Producers claim a sequence with a CAS, encode the entry straight into its slot of a shared byte
+ * array in the on-disk layout, and publish the slot with a release store of {@code sequence + 1}. The
+ * consumer reads published slots in order and hands whole runs to the writer. A full ring drops the
+ * entry instead of blocking the request thread.
+ */
+final class JournalRingBuffer {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] entries;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long consumed;
+
+    interface Sink {
+        void write(byte[] entries, int offset, int length);
+    }
+
+    JournalRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two, but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.entries = new byte[capacity * ENTRY_SIZE];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    boolean offer(long timestamp, byte direction, int arabic, CharSequence input, ConversionError error) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return false;
+        }
+        int offset = encodeHeader(sequence, timestamp, direction, arabic, error);
+        int length = input == null ? 0 : input.length();
+        int stored = Math.min(length, MAX_INPUT_BYTES);
+        for (int i = 0; i < stored; i++) {
+            char current = input.charAt(i);
+            entries[offset + INPUT_OFFSET + i] = current < 128 ? (byte) current : (byte) '?';
+        }
+        publish(sequence, offset, length, stored);
+        return true;
+    }
+
+    boolean offer(long timestamp, byte direction, int arabic, byte[] source, int from, int length, ConversionError error) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return false;
+        }
+        int offset = encodeHeader(sequence, timestamp, direction, arabic, error);
+        int stored = Math.min(length, MAX_INPUT_BYTES);
+        System.arraycopy(source, from, entries, offset + INPUT_OFFSET, stored);
+        publish(sequence, offset, length, stored);
+        return true;
+    }
+
+    /**
+     * Hands the published entries, at most {@code limit}, to {@code sink} in at most two contiguous runs.
+     *
+     * @return the number of entries handed over
+     */
+    int drain(Sink sink, int limit) {
+        long sequence = consumed;
+        int count = 0;
+        while (count < limit && published.getAcquire(slotOf(sequence + count)) == sequence + count + 1) {
+            count++;
+        }
+        if (count > 0) {
+            int first = slotOf(sequence);
+            int run = Math.min(count, capacity - first);
+            sink.write(entries, first * ENTRY_SIZE, run * ENTRY_SIZE);
+            if (run < count) {
+                sink.write(entries, 0, (count - run) * ENTRY_SIZE);
+            }
+            consumed = sequence + count;
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        return consumed == claimed.get();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    private long claim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                dropped.increment();
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    private int encodeHeader(long sequence, long timestamp, byte direction, int arabic, ConversionError error) {
+        int offset = slotOf(sequence) * ENTRY_SIZE;
+        LONG_VIEW.set(entries, offset + TIMESTAMP_OFFSET, timestamp);
+        entries[offset + DIRECTION_OFFSET] = direction;
+        entries[offset + ERROR_OFFSET] = JournalFormat.errorCodeOf(error);
+        INT_VIEW.set(entries, offset + ARABIC_OFFSET, arabic);
+        return offset;
+    }
+
+    private void publish(long sequence, int offset, int length, int stored) {
+        entries[offset + INPUT_LENGTH_OFFSET] = (byte) Math.min(length, 255);
+        for (int i = stored; i < MAX_INPUT_BYTES; i++) {
+            entries[offset + INPUT_OFFSET + i] = 0;
+        }
+        published.setRelease(slotOf(sequence), sequence + 1);
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
@@ -0,0 +1,77 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Records every call of the wrapped converter in the {@link ConversionJournal}.
+ */
+public class JournaledArabicToRomanNumberConverter implements ArabicToRomanNumberConverter {
+
+    private final ArabicToRomanNumberConverter delegate;
+    private final ConversionJournal journal;
+
+    public JournaledArabicToRomanNumberConverter(ArabicToRomanNumberConverter delegate, ConversionJournal journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public String perform(Integer number) {
+        try {
+            String roman = delegate.perform(number);
+            journal.arabicToRoman(number, null);
+            return roman;
+        } catch (InvalidArabicNumberException ex) {
+            journal.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            throw ex;
+        }
+    }
+
+    @Override
+    public ConversionResult tryPerform(int number) {
+        ConversionResult result = delegate.tryPerform(number);
+        journal.arabicToRoman(number, result.error());
+        return result;
+    }
+
+    @Override
+    public void perform(int number, Appendable destination) throws IOException {
+        try {
+            delegate.perform(number, destination);
+            journal.arabicToRoman(number, null);
+        } catch (InvalidArabicNumberException ex) {
+            journal.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            throw ex;
+        }
+    }
+
+    @Override
+    public int perform(int number, char[] destination, int offset) {
+        try {
+            int written = delegate.perform(number, destination, offset);
+            journal.arabicToRoman(number, null);
+            return written;
+        } catch (InvalidArabicNumberException ex) {
+            journal.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            throw ex;
+        }
+    }
+
+    @Override
+    public int perform(int number, ByteBuffer destination) {
+        try {
+            int written = delegate.perform(number, destination);
+            journal.arabicToRoman(number, null);
+            return written;
+        } catch (InvalidArabicNumberException ex) {
+            journal.arabicToRoman(number, ConversionError.ARABIC_OUT_OF_RANGE);
+            throw ex;
+        }
+    }
+}
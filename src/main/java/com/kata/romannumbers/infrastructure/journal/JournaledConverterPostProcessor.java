@@ -0,0 +1,29 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the converter beans in their journaled decorators, resolving the journal lazily.
+ */
+public class JournaledConverterPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConversionJournal> journal;
+
+    public JournaledConverterPostProcessor(ObjectProvider<ConversionJournal> journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ArabicToRomanNumberConverter converter) {
+            return new JournaledArabicToRomanNumberConverter(converter, journal.getObject());
+        }
+        if (bean instanceof RomanToArabicNumberConverter converter) {
+            return new JournaledRomanToArabicNumberConverter(converter, journal.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,67 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+
+/**
+ * Records every call of the wrapped converter in the {@link ConversionJournal}.
+ */
+public class JournaledRomanToArabicNumberConverter implements RomanToArabicNumberConverter {
+
+    private final RomanToArabicNumberConverter delegate;
+    private final ConversionJournal journal;
+
+    public JournaledRomanToArabicNumberConverter(RomanToArabicNumberConverter delegate, ConversionJournal journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public Integer perform(String number) {
+        try {
+            Integer arabic = delegate.perform(number);
+            journal.romanToArabic(number, arabic, null);
+            return arabic;
+        } catch (InvalidRomanNumberException ex) {
+            journal.romanToArabic(number, 0, errorOf(number == null ? 0 : number.length()));
+            throw ex;
+        }
+    }
+
+    @Override
+    public ConversionResult tryPerform(CharSequence number) {
+        ConversionResult result = delegate.tryPerform(number);
+        journal.romanToArabic(number, result.arabic(), result.error());
+        return result;
+    }
+
+    @Override
+    public int decode(CharSequence number) {
+        try {
+            int arabic = delegate.decode(number);
+            journal.romanToArabic(number, arabic, null);
+            return arabic;
+        } catch (InvalidRomanNumberException ex) {
+            journal.romanToArabic(number, 0, errorOf(number == null ? 0 : number.length()));
+            throw ex;
+        }
+    }
+
+    @Override
+    public int decode(byte[] source, int offset, int length) {
+        try {
+            int arabic = delegate.decode(source, offset, length);
+            journal.romanToArabic(source, offset, length, arabic, null);
+            return arabic;
+        } catch (InvalidRomanNumberException ex) {
+            journal.romanToArabic(source, offset, length, 0, errorOf(length));
+            throw ex;
+        }
+    }
+
+    private static ConversionError errorOf(int length) {
+        return length == 0 ? ConversionError.ROMAN_NULL_OR_EMPTY : ConversionError.ROMAN_INVALID_FORMAT;
+    }
+}
@@ -0,0 +1,109 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.ENTRY_SIZE;
+import static com.kata.romannumbers.infrastructure.journal.JournalFormat.HEADER_SIZE;
+
+/**
+ * Appends encoded entries to fixed-size memory-mapped segments, rolling to a new segment when the
+ * current one is full and deleting the oldest segments beyond the configured count.
+ * <p>
+ * Writes only copy into the mapping; the OS writes the pages back, and a segment is forced to disk
+ * when it is closed. A new writer always starts a new segment, so segments never need recovery.
+ */
+final class MappedJournalWriter implements JournalRingBuffer.Sink, AutoCloseable {
+
+    static final Pattern SEGMENT_NAME = Pattern.compile("conversions-(\\d+)\\.journal");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private int segmentIndex;
+    private MappedByteBuffer segment;
+
+    MappedJournalWriter(Path directory, long segmentSize, int maxSegments) throws IOException {
+        long entries = (Math.min(segmentSize, Integer.MAX_VALUE) - HEADER_SIZE) / ENTRY_SIZE;
+        if (entries < 1) {
+            throw new IllegalArgumentException("Journal segments must hold at least one entry, but size was " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = (int) (HEADER_SIZE + entries * ENTRY_SIZE);
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+        this.segmentIndex = segmentIndexes(directory).stream().mapToInt(Integer::intValue).max().orElse(0);
+        roll();
+    }
+
+    @Override
+    public void write(byte[] entries, int offset, int length) {
+        while (length > 0) {
+            if (!segment.hasRemaining()) {
+                roll();
+            }
+            int chunk = Math.min(length, segment.remaining());
+            segment.put(entries, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void close() {
+        segment.force();
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("conversions-%06d.journal", index));
+    }
+
+    static List<Integer> segmentIndexes(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.parseInt(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void roll() {
+        try {
+            if (segment != null) {
+                segment.force();
+            }
+            segmentIndex++;
+            try (FileChannel channel = FileChannel.open(segmentPath(directory, segmentIndex),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+            segment.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(JournalFormat.MAGIC)
+                    .putShort(JournalFormat.VERSION)
+                    .putShort((short) ENTRY_SIZE)
+                    .putLong(System.currentTimeMillis())
+                    .position(HEADER_SIZE);
+            deleteOldSegments();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not roll the conversion journal in " + directory, ex);
+        }
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Integer> indexes = segmentIndexes(directory);
+        for (int i = 0; i < indexes.size() - maxSegments; i++) {
+            Files.deleteIfExists(segmentPath(directory, indexes.get(i)));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.infrastructure.warmup.WarmUpTraffic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Meters for the conversion hot paths. Every meter is registered up front so that recording a
+ * conversion never looks up or creates a meter. Errors answered to {@link WarmUpTraffic} are not counted.
+ */
+@Component
+public class ConversionMetrics {
+
+    public static final String ARABIC_TO_ROMAN = "arabic-to-roman";
+    public static final String ROMAN_TO_ARABIC = "roman-to-arabic";
+
+    public static final String INVALID_ARABIC_NUMBER = "invalid_arabic_number";
+    public static final String INVALID_ROMAN_NUMBER = "invalid_roman_number";
+    public static final String TYPE_MISMATCH = "type_mismatch";
+    public static final String MISSING_PARAMETER = "missing_parameter";
+    public static final String INVALID_REQUEST = "invalid_request";
+    public static final String INTERNAL_ERROR = "internal_error";
+
+    private static final String[] ERROR_TYPES = {
+            INVALID_ARABIC_NUMBER, INVALID_ROMAN_NUMBER, TYPE_MISMATCH, MISSING_PARAMETER, INVALID_REQUEST, INTERNAL_ERROR
+    };
+    private static final double[] VALUE_BUCKETS = {1, 10, 50, 100, 500, 1000, 2000, 3000, 3999};
+    private static final double[] LENGTH_BUCKETS = {1, 2, 4, 8, 12, 15};
+
+    private final Map<String, Direction> directions = new HashMap<>();
+    private final Map<String, Counter> errors = new HashMap<>();
+
+    public ConversionMetrics(MeterRegistry registry) {
+        for (String direction : new String[]{ARABIC_TO_ROMAN, ROMAN_TO_ARABIC}) {
+            directions.put(direction, new Direction(
+                    timer(registry, direction, "success"),
+                    timer(registry, direction, "error"),
+                    DistributionSummary.builder("roman.numbers.conversion.input.length")
+                            .description("Length of the input of a conversion")
+                            .tag("direction", direction)
+                            .serviceLevelObjectives(LENGTH_BUCKETS)
+                            .register(registry),
+                    DistributionSummary.builder("roman.numbers.conversion.value")
+                            .description("Arabic value of successful conversions")
+                            .tag("direction", direction)
+                            .serviceLevelObjectives(VALUE_BUCKETS)
+                            .register(registry)));
+        }
+        for (String type : ERROR_TYPES) {
+            errors.put(type, Counter.builder("roman.numbers.errors")
+                    .description("Error responses by type")
+                    .tag("type", type)
+                    .register(registry));
+        }
+    }
+
+    public Direction direction(String direction) {
+        return directions.get(direction);
+    }
+
+    public void countError(String type) {
+        if (WarmUpTraffic.isCurrent()) {
+            return;
+        }
+        errors.get(type).increment();
+    }
+
+    public void countError(ConversionError error) {
+        countError(error == ConversionError.ARABIC_OUT_OF_RANGE ? INVALID_ARABIC_NUMBER : INVALID_ROMAN_NUMBER);
+    }
+
+    private static Timer timer(MeterRegistry registry, String direction, String outcome) {
+        return Timer.builder("roman.numbers.conversion")
+                .description("Time spent in a converter call")
+                .tag("direction", direction)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public record Direction(Timer success, Timer error, DistributionSummary inputLength, DistributionSummary value) {
+    }
+}
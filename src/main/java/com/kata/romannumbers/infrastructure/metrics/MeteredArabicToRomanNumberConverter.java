@@ -0,0 +1,107 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.infrastructure.warmup.WarmUpTraffic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records timing, input length and value distribution around every call of the wrapped converter, except
+ * for the calls serving {@link WarmUpTraffic}.
+ */
+public class MeteredArabicToRomanNumberConverter implements ArabicToRomanNumberConverter {
+
+    private final ArabicToRomanNumberConverter delegate;
+    private final ConversionMetrics.Direction metrics;
+
+    public MeteredArabicToRomanNumberConverter(ArabicToRomanNumberConverter delegate, ConversionMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.direction(ConversionMetrics.ARABIC_TO_ROMAN);
+    }
+
+    @Override
+    public String perform(Integer number) {
+        long start = System.nanoTime();
+        try {
+            String roman = delegate.perform(number);
+            recordSuccess(start, number);
+            return roman;
+        } catch (RuntimeException ex) {
+            recordError(start);
+            throw ex;
+        }
+    }
+
+    @Override
+    public ConversionResult tryPerform(int number) {
+        long start = System.nanoTime();
+        ConversionResult result = delegate.tryPerform(number);
+        if (result.isValid()) {
+            recordSuccess(start, number);
+        } else {
+            recordError(start);
+        }
+        return result;
+    }
+
+    @Override
+    public void perform(int number, Appendable destination) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.perform(number, destination);
+            recordSuccess(start, number);
+        } catch (RuntimeException | IOException ex) {
+            recordError(start);
+            throw ex;
+        }
+    }
+
+    @Override
+    public int perform(int number, char[] destination, int offset) {
+        long start = System.nanoTime();
+        try {
+            int written = delegate.perform(number, destination, offset);
+            recordSuccess(start, number);
+            return written;
+        } catch (RuntimeException ex) {
+            recordError(start);
+            throw ex;
+        }
+    }
+
+    @Override
+    public int perform(int number, ByteBuffer destination) {
+        long start = System.nanoTime();
+        try {
+            int written = delegate.perform(number, destination);
+            recordSuccess(start, number);
+            return written;
+        } catch (RuntimeException ex) {
+            recordError(start);
+            throw ex;
+        }
+    }
+
+    private void recordSuccess(long start, int number) {
+        if (WarmUpTraffic.isCurrent()) {
+            return;
+        }
+        metrics.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        metrics.inputLength().record(digits(number));
+        metrics.value().record(number);
+    }
+
+    private void recordError(long start) {
+        if (WarmUpTraffic.isCurrent()) {
+            return;
+        }
+        metrics.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static int digits(int number) {
+        return number < 10 ? 1 : number < 100 ? 2 : number < 1000 ? 3 : 4;
+    }
+}
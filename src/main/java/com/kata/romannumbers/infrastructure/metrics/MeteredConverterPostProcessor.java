@@ -0,0 +1,30 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the converter beans in their metered decorators. The metrics are resolved lazily so this
+ * post-processor does not force the meter registry to be created before the other post-processors.
+ */
+public class MeteredConverterPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConversionMetrics> metrics;
+
+    public MeteredConverterPostProcessor(ObjectProvider<ConversionMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ArabicToRomanNumberConverter converter) {
+            return new MeteredArabicToRomanNumberConverter(converter, metrics.getObject());
+        }
+        if (bean instanceof RomanToArabicNumberConverter converter) {
+            return new MeteredRomanToArabicNumberConverter(converter, metrics.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,90 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import com.kata.romannumbers.application.ConversionResult;
+import com.kata.romannumbers.application.RomanToArabicNumberConverter;
+import com.kata.romannumbers.infrastructure.warmup.WarmUpTraffic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records timing, input length and value distribution around every call of the wrapped converter, except
+ * for the calls serving {@link WarmUpTraffic}.
+ */
+public class MeteredRomanToArabicNumberConverter implements RomanToArabicNumberConverter {
+
+    private final RomanToArabicNumberConverter delegate;
+    private final ConversionMetrics.Direction metrics;
+
+    public MeteredRomanToArabicNumberConverter(RomanToArabicNumberConverter delegate, ConversionMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics.direction(ConversionMetrics.ROMAN_TO_ARABIC);
+    }
+
+    @Override
+    public Integer perform(String number) {
+        long start = System.nanoTime();
+        try {
+            Integer arabic = delegate.perform(number);
+            recordSuccess(start, number.length(), arabic);
+            return arabic;
+        } catch (RuntimeException ex) {
+            recordError(start, number == null ? 0 : number.length());
+            throw ex;
+        }
+    }
+
+    @Override
+    public ConversionResult tryPerform(CharSequence number) {
+        long start = System.nanoTime();
+        ConversionResult result = delegate.tryPerform(number);
+        if (result.isValid()) {
+            recordSuccess(start, number.length(), result.arabic());
+        } else {
+            recordError(start, number == null ? 0 : number.length());
+        }
+        return result;
+    }
+
+    @Override
+    public int decode(CharSequence number) {
+        long start = System.nanoTime();
+        try {
+            int arabic = delegate.decode(number);
+            recordSuccess(start, number.length(), arabic);
+            return arabic;
+        } catch (RuntimeException ex) {
+            recordError(start, number == null ? 0 : number.length());
+            throw ex;
+        }
+    }
+
+    @Override
+    public int decode(byte[] source, int offset, int length) {
+        long start = System.nanoTime();
+        try {
+            int arabic = delegate.decode(source, offset, length);
+            recordSuccess(start, length, arabic);
+            return arabic;
+        } catch (RuntimeException ex) {
+            recordError(start, length);
+            throw ex;
+        }
+    }
+
+    private void recordSuccess(long start, int length, int arabic) {
+        if (WarmUpTraffic.isCurrent()) {
+            return;
+        }
+        metrics.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        metrics.inputLength().record(length);
+        metrics.value().record(arabic);
+    }
+
+    private void recordError(long start, int length) {
+        if (WarmUpTraffic.isCurrent()) {
+            return;
+        }
+        metrics.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        metrics.inputLength().record(length);
+    }
+}
@@ -0,0 +1,17 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "roman-numbers.metrics.converters.enabled", havingValue = "true")
+public class MetricsConfiguration {
+
+    @Bean
+    public static MeteredConverterPostProcessor meteredConverterPostProcessor(
+            ObjectProvider<ConversionMetrics> metrics) {
+        return new MeteredConverterPostProcessor(metrics);
+    }
+}
@@ -0,0 +1,53 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Registers the warm-up, which holds back readiness until it has finished (see {@link WarmUpRunner}); when it is
+ * disabled, or there is no embedded web server, it reports {@code skipped}. The web filters that mark the warm-up
+ * requests are registered with the web stack that serves them.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfiguration {
+
+    // Ahead of admission control, which lets marked requests through
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties) {
+        return new WarmUpRunner(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletTrafficConfiguration {
+
+        @Bean
+        FilterRegistrationBean<WarmUpTrafficFilter> warmUpTrafficFilter() {
+            FilterRegistrationBean<WarmUpTrafficFilter> registration =
+                    new FilterRegistrationBean<>(new WarmUpTrafficFilter());
+            registration.addUrlPatterns("/api/v1/roman-numbers/arabic-to-roman",
+                    "/api/v1/roman-numbers/roman-to-arabic");
+            registration.setOrder(FILTER_ORDER);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveTrafficConfiguration {
+
+        @Bean
+        @Order(FILTER_ORDER)
+        WarmUpTrafficWebFilter warmUpTrafficWebFilter() {
+            return new WarmUpTrafficWebFilter();
+        }
+    }
+}
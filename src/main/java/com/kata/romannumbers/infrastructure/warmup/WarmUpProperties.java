@@ -0,0 +1,23 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Startup warm-up of the conversion endpoints. Each round sends {@code numbersPerRound} valid numbers in both
+ * directions plus a fixed set of invalid inputs. Rounds go on until every valid number has been sent and, in
+ * {@code settledRounds} consecutive rounds, the JIT compiled for at most {@code settleRatio} of the round's wall
+ * time; or until {@code maxRounds} or {@code maxDuration} is reached.
+ */
+@ConfigurationProperties("roman-numbers.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int numbersPerRound,
+        @DefaultValue("50") int maxRounds,
+        @DefaultValue("60s") Duration maxDuration,
+        @DefaultValue("0.05") double settleRatio,
+        @DefaultValue("2") int settledRounds,
+        @DefaultValue("4") int concurrency) {
+}
@@ -0,0 +1,27 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import java.time.Duration;
+
+/**
+ * Outcome of the startup warm-up.
+ *
+ * @param compilationTime time the JIT spent compiling during the warm-up, or {@code null} when the JVM does not
+ *                        report it
+ * @param settled         whether compilation settled before a round or time limit stopped the warm-up
+ */
+public record WarmUpReport(
+        String state,
+        int rounds,
+        long requests,
+        long unexpectedResponses,
+        Duration duration,
+        Duration compilationTime,
+        boolean settled) {
+
+    static final String COMPLETED = "completed";
+    static final String SKIPPED = "skipped";
+
+    static WarmUpReport skipped() {
+        return new WarmUpReport(SKIPPED, 0, 0, 0, Duration.ZERO, null, false);
+    }
+}
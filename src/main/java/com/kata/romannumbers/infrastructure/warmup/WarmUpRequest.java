@@ -0,0 +1,67 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One GET sent by the warm-up, with the status the endpoint is expected to answer.
+ */
+record WarmUpRequest(String pathAndQuery, String accept, int expectedStatus) {
+
+    static final int MAX_ARABIC_VALUE = 3999;
+
+    private static final String ARABIC_TO_ROMAN = "/api/v1/roman-numbers/arabic-to-roman";
+    private static final String ROMAN_TO_ARABIC = "/api/v1/roman-numbers/roman-to-arabic";
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+
+    private static final String JSON = "application/json";
+    // Every eighth valid request asks for one of the binary formats in turn
+    private static final String[] BINARY_FORMATS = {"application/cbor", "application/x-jackson-smile",
+            "application/x-protobuf"};
+    private static final int BINARY_EVERY = 8;
+
+    private static final String[] INVALID_ARABIC_QUERIES = {"?number=0", "?number=4000", "?number=-1",
+            "?number=99999999999", "?number=abc", "?number=", ""};
+    private static final String[] INVALID_ROMAN_QUERIES = {"?roman=IIII", "?roman=MMMM", "?roman=VX", "?roman=ABC",
+            "?roman=", ""};
+
+    private static final ArabicToRomanNumberConverter CONVERTER = new ArabicToRomanNumberConverterUseCase();
+
+    /**
+     * Requests of the given round: the next {@code numbersPerRound} valid numbers, wrapping around after
+     * {@value #MAX_ARABIC_VALUE}, in both directions, followed by the invalid inputs.
+     */
+    static List<WarmUpRequest> round(int round, int numbersPerRound) {
+        List<WarmUpRequest> requests = new ArrayList<>(2 * numbersPerRound
+                + INVALID_ARABIC_QUERIES.length + INVALID_ROMAN_QUERIES.length);
+        for (int i = 0; i < numbersPerRound; i++) {
+            int index = (int) (((long) round * numbersPerRound + i) % MAX_ARABIC_VALUE);
+            int number = index + 1;
+            String roman = CONVERTER.tryPerform(number).roman();
+            String accept = index % BINARY_EVERY == 0
+                    ? BINARY_FORMATS[(index / BINARY_EVERY) % BINARY_FORMATS.length]
+                    : JSON;
+            requests.add(new WarmUpRequest(ARABIC_TO_ROMAN + "?number=" + number, accept, OK));
+            requests.add(new WarmUpRequest(ROMAN_TO_ARABIC + "?roman="
+                    + (index % 2 == 0 ? roman : roman.toLowerCase()), accept, OK));
+        }
+        for (String query : INVALID_ARABIC_QUERIES) {
+            requests.add(new WarmUpRequest(ARABIC_TO_ROMAN + query, JSON, BAD_REQUEST));
+        }
+        for (String query : INVALID_ROMAN_QUERIES) {
+            requests.add(new WarmUpRequest(ROMAN_TO_ARABIC + query, JSON, BAD_REQUEST));
+        }
+        return requests;
+    }
+
+    /**
+     * Rounds needed before every valid number has been sent once.
+     */
+    static int coverageRounds(int numbersPerRound) {
+        return (MAX_ARABIC_VALUE + numbersPerRound - 1) / numbersPerRound;
+    }
+}
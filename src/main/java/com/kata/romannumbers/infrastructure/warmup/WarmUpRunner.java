@@ -0,0 +1,191 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms up the conversion endpoints over loopback HTTP once the application is ready, so the first real requests
+ * do not run interpreted code in Tomcat, the filters, Spring MVC dispatch, the adapters and the converters.
+ * <p>
+ * Runs on the thread publishing {@link ApplicationReadyEvent}. Spring Boot only moves readiness to
+ * {@code ACCEPTING_TRAFFIC} after every listener of that event has returned, so the readiness probe keeps
+ * answering 503 until the warm-up is over. The requests are marked as {@link WarmUpTraffic}, which admission
+ * control lets through without counting them against the rate or the concurrency limit.
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationListener<ApplicationReadyEvent>, Ordered {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WarmUpProperties properties;
+    private volatile WarmUpReport report;
+
+    public WarmUpRunner(WarmUpProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * The outcome, or {@code null} while the warm-up has not finished.
+     */
+    public WarmUpReport report() {
+        return report;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!properties.enabled() || !(event.getApplicationContext() instanceof WebServerApplicationContext context)) {
+            report = WarmUpReport.skipped();
+            return;
+        }
+        int port = context.getWebServer().getPort();
+        log.info("Warming up the conversion endpoints on port {}", port);
+        WarmUpTraffic.start();
+        try {
+            report = warmUp(port);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            report = WarmUpReport.skipped();
+            return;
+        } finally {
+            WarmUpTraffic.stop();
+        }
+        if (report.unexpectedResponses() > 0) {
+            log.warn("Warm-up got {} unexpected responses out of {} requests", report.unexpectedResponses(),
+                    report.requests());
+        }
+        log.info("Warm-up {} after {} rounds and {} requests in {} ms{}",
+                report.settled() ? "settled" : "stopped", report.rounds(), report.requests(),
+                report.duration().toMillis(),
+                report.compilationTime() == null ? ""
+                        : ", " + report.compilationTime().toMillis() + " ms of JIT compilation");
+    }
+
+    WarmUpReport warmUp(int port) throws InterruptedException {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean measurable = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        int coverageRounds = WarmUpRequest.coverageRounds(properties.numbersPerRound());
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(properties.concurrency(), task -> {
+            Thread thread = new Thread(task, "warm-up-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        long compilationStart = measurable ? compilation.getTotalCompilationTime() : 0;
+        int rounds = 0;
+        long requests = 0;
+        long unexpected = 0;
+        int quietRounds = 0;
+        boolean settled = false;
+        try {
+            while (rounds < properties.maxRounds() && System.nanoTime() < deadline) {
+                long roundStart = System.nanoTime();
+                long compilationBefore = measurable ? compilation.getTotalCompilationTime() : 0;
+                List<WarmUpRequest> round = WarmUpRequest.round(rounds, properties.numbersPerRound());
+                unexpected += send(client, workers, port, round);
+                requests += round.size();
+                rounds++;
+
+                if (rounds < coverageRounds) {
+                    continue;
+                }
+                if (!measurable) {
+                    break;
+                }
+                double compiledMillis = compilation.getTotalCompilationTime() - compilationBefore;
+                double roundMillis = (System.nanoTime() - roundStart) / 1e6;
+                quietRounds = compiledMillis <= properties.settleRatio() * roundMillis ? quietRounds + 1 : 0;
+                if (quietRounds >= properties.settledRounds()) {
+                    settled = true;
+                    break;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        return new WarmUpReport(WarmUpReport.COMPLETED, rounds, requests, unexpected,
+                Duration.ofNanos(System.nanoTime() - start),
+                measurable ? Duration.ofMillis(compilation.getTotalCompilationTime() - compilationStart) : null,
+                settled);
+    }
+
+    /**
+     * Sends one round, split across the workers.
+     *
+     * @return the number of responses whose status was not the expected one, failed requests included
+     */
+    private long send(HttpClient client, ExecutorService workers, int port, List<WarmUpRequest> round)
+            throws InterruptedException {
+        int concurrency = properties.concurrency();
+        List<Future<Long>> slices = new ArrayList<>(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            int first = worker;
+            slices.add(workers.submit(() -> {
+                long unexpected = 0;
+                for (int i = first; i < round.size(); i += concurrency) {
+                    if (!sendOne(client, port, round.get(i))) {
+                        unexpected++;
+                    }
+                }
+                return unexpected;
+            }));
+        }
+        long unexpected = 0;
+        for (Future<Long> slice : slices) {
+            try {
+                unexpected += slice.get();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Warm-up worker failed", ex.getCause());
+            }
+        }
+        return unexpected;
+    }
+
+    private boolean sendOne(HttpClient client, int port, WarmUpRequest request) throws InterruptedException {
+        HttpRequest httpRequest = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + request.pathAndQuery()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", request.accept())
+                .header(WarmUpTraffic.HEADER, WarmUpTraffic.token())
+                .build();
+        try {
+            HttpResponse<byte[]> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+            return response.statusCode() == request.expectedStatus();
+        } catch (IOException ex) {
+            log.debug("Warm-up request {} failed", request.pathAndQuery(), ex);
+            return false;
+        }
+    }
+}
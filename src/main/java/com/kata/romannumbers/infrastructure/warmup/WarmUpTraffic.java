@@ -0,0 +1,74 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Tells the warm-up requests apart from client traffic.
+ * <p>
+ * The runner sends {@link #HEADER} with a token drawn once per process. A request is warm-up traffic only while
+ * the warm-up is running, when it comes from a loopback address and carries that token, so a client cannot pass
+ * for the warm-up. The web filters mark such a request with {@link #ATTRIBUTE}, and the thread serving it for as
+ * long as it is handled, so that code that never sees the request can ask {@link #isCurrent()}.
+ */
+public final class WarmUpTraffic {
+
+    public static final String HEADER = "X-Warm-Up";
+    public static final String ATTRIBUTE = WarmUpTraffic.class.getName();
+
+    private static final String TOKEN = UUID.randomUUID().toString();
+    private static final ThreadLocal<Boolean> CURRENT = new ThreadLocal<>();
+
+    // Checked first so that, outside the warm-up, isCurrent() costs a volatile read rather than a thread-local lookup
+    private static volatile boolean running;
+
+    private WarmUpTraffic() {
+    }
+
+    /**
+     * @return whether the calling thread is serving a warm-up request
+     */
+    public static boolean isCurrent() {
+        return running && CURRENT.get() != null;
+    }
+
+    static String token() {
+        return TOKEN;
+    }
+
+    static void start() {
+        running = true;
+    }
+
+    static void stop() {
+        running = false;
+    }
+
+    /**
+     * @param token         value of {@link #HEADER}, or {@code null} when absent
+     * @param remoteAddress IP address of the peer, as a literal
+     */
+    static boolean accepts(String token, String remoteAddress) {
+        if (!running || !TOKEN.equals(token) || remoteAddress == null) {
+            return false;
+        }
+        try {
+            return InetAddress.getByName(remoteAddress).isLoopbackAddress();
+        } catch (UnknownHostException ex) {
+            return false;
+        }
+    }
+
+    static boolean accepts(String token, InetAddress remoteAddress) {
+        return running && TOKEN.equals(token) && remoteAddress != null && remoteAddress.isLoopbackAddress();
+    }
+
+    static void enter() {
+        CURRENT.set(Boolean.TRUE);
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+}
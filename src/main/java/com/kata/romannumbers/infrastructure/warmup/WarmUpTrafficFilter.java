@@ -0,0 +1,31 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Marks the warm-up requests on the servlet stack, see {@link WarmUpTraffic}.
+ */
+class WarmUpTrafficFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!WarmUpTraffic.accepts(request.getHeader(WarmUpTraffic.HEADER), request.getRemoteAddr())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(WarmUpTraffic.ATTRIBUTE, Boolean.TRUE);
+        WarmUpTraffic.enter();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            WarmUpTraffic.exit();
+        }
+    }
+}
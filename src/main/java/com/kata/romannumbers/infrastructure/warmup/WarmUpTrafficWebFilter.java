@@ -0,0 +1,47 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Marks the warm-up requests on the reactive stack, see {@link WarmUpTraffic}.
+ * <p>
+ * The conversion adapters do their work while the chain is being subscribed to, on the thread that subscribes,
+ * so the thread is marked for the duration of the subscription rather than until the response completes.
+ */
+class WarmUpTrafficWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || !WarmUpTraffic.accepts(
+                exchange.getRequest().getHeaders().getFirst(WarmUpTraffic.HEADER), remoteAddress.getAddress())) {
+            return chain.filter(exchange);
+        }
+        exchange.getAttributes().put(WarmUpTraffic.ATTRIBUTE, Boolean.TRUE);
+        return new MarkedSubscription(chain.filter(exchange));
+    }
+
+    private static final class MarkedSubscription extends MonoOperator<Void, Void> {
+
+        MarkedSubscription(Mono<Void> source) {
+            super(source);
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super Void> actual) {
+            WarmUpTraffic.enter();
+            try {
+                source.subscribe(actual);
+            } finally {
+                WarmUpTraffic.exit();
+            }
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.kata.romannumbers;
 
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class RomanNumbersKataApplicationTests {
 
@@ -10,4 +23,52 @@ class RomanNumbersKataApplicationTests {
 	void contextLoads() {
 	}
 
+	@Nested
+	@DisplayName("Offline commands")
+	class CommandTests {
+
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+		@TempDir
+		private Path directory;
+
+		@Test
+		@DisplayName("Should start the server when no command is given")
+		void shouldNotRunCommandWithoutArguments() {
+			assertThat(run()).isEmpty();
+			assertThat(run("--server.port=8081")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should dispatch the journal command")
+		void shouldRunJournalCommand() {
+			assertThat(run("journal")).hasValue(2);
+			assertThat(err.toString(StandardCharsets.UTF_8)).contains("Usage: journal");
+		}
+
+		@Test
+		@DisplayName("Should dispatch the jfr-summary command")
+		void shouldRunJfrSummaryCommand() {
+			assertThat(run("jfr-summary")).hasValue(2);
+			assertThat(err.toString(StandardCharsets.UTF_8)).contains("Usage: jfr-summary");
+		}
+
+		@Test
+		@DisplayName("Should dispatch the convert command to the cli profile")
+		void shouldRunConvertCommand() throws IOException {
+			Path input = Files.writeString(directory.resolve("input.txt"), "MCMXCIV\n");
+			Path output = directory.resolve("output.txt");
+
+			assertThat(run("convert", "--direction=roman-to-arabic", "--input=" + input, "--output=" + output))
+					.hasValue(0);
+			assertThat(Files.readAllLines(output)).containsExactly("1994");
+		}
+
+		private OptionalInt run(String... args) {
+			return RomanNumbersKataApplication.runCommand(args,
+					new PrintStream(out, true, StandardCharsets.UTF_8),
+					new PrintStream(err, true, StandardCharsets.UTF_8));
+		}
+	}
 }
@@ -0,0 +1,69 @@
+package com.kata.romannumbers;
+
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.reactive.exception.ReactiveGlobalExceptionHandler;
+import com.kata.romannumbers.infrastructure.input.rest.exception.GlobalExceptionHandler;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Runtime Hints Test")
+class RomanNumbersRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void registerHints() {
+        new RomanNumbersRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register the response records for JSON binding")
+    void shouldRegisterResponseRecords() {
+        RomanNumbersRuntimeHints.RESPONSE_TYPES.forEach(type -> {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)).accepts(hints);
+            assertThat(type.getRecordComponents()).allSatisfy(component ->
+                    assertThat(RuntimeHintsPredicates.reflection().onMethod(component.getAccessor())).accepts(hints));
+        });
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(ErrorResponse.class.getDeclaredConstructors()[0]))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the handler and exception handler methods for invocation")
+    void shouldRegisterHandlers() throws NoSuchMethodException {
+        RomanNumbersRuntimeHints.HANDLER_TYPES.forEach(type ->
+                assertThat(RuntimeHintsPredicates.reflection().onType(type)).accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GlobalExceptionHandler.class.getMethod(
+                "handleMissingServletRequestParameterException",
+                MissingServletRequestParameterException.class)).invoke())
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the protobuf messages and their builders")
+    void shouldRegisterProtobufMessages() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ConversionReply.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ConversionReply.Builder.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register only the configuration file that applies to the AOT-processed application")
+    void shouldRegisterConfigurationResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("application.yml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("application-reactive.yml")).rejects(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("application-lean.yml")).rejects(hints);
+    }
+
+    @Test
+    @DisplayName("Should not register the reactive stack, which AOT never builds")
+    void shouldNotRegisterReactiveHandlers() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ReactiveGlobalExceptionHandler.class)).rejects(hints);
+    }
+}
@@ -0,0 +1,129 @@
+package com.kata.romannumbers.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Arabic to Roman Number Bulk Encoder Test")
+public class ArabicToRomanNumberBulkEncoderTest {
+
+    private static final int COUNT = ArabicToRomanNumberBulkEncoderUseCase.BLOCK_SIZE * 3 + 77;
+
+    private final ArabicToRomanNumberConverter converter = new ArabicToRomanNumberConverterUseCase();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ArabicToRomanNumberBulkEncoder encoder = new ArabicToRomanNumberBulkEncoderUseCase(pool);
+
+    @AfterEach
+    void shutDownPool() {
+        pool.shutdown();
+    }
+
+    private static int[] numbers() {
+        SplittableRandom random = new SplittableRandom(11);
+        int[] numbers = new int[COUNT + 10];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = i % 97 == 0 ? random.nextInt(-10, 1) : i % 89 == 0 ? random.nextInt(4000, 5000)
+                    : random.nextInt(1, 4000);
+        }
+        return numbers;
+    }
+
+    private static boolean isError(long[] errors, int index) {
+        return (errors[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void assertEncoded(int[] numbers, int invalid, int[] offsets, long[] errors, byte[] bytes) {
+        int expectedInvalid = 0;
+        for (int i = 0; i < COUNT; i++) {
+            String numeral = new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.US_ASCII);
+            if (numbers[i] < 1 || numbers[i] > 3999) {
+                expectedInvalid++;
+                assertThat(isError(errors, i)).as("error bit %d", i).isTrue();
+                assertThat(numeral).isEmpty();
+            } else {
+                assertThat(isError(errors, i)).as("error bit %d", i).isFalse();
+                assertThat(numeral).isEqualTo(converter.perform(numbers[i]));
+            }
+        }
+        assertThat(invalid).isEqualTo(expectedInvalid);
+        assertThat(offsets[COUNT]).isEqualTo(encoder.encodedLength(numbers, COUNT));
+    }
+
+    @Test
+    @DisplayName("Should encode every number of several blocks into a byte array")
+    void shouldEncodeIntoByteArray() {
+        int[] numbers = numbers();
+        byte[] target = new byte[(int) encoder.encodedLength(numbers, COUNT)];
+        int[] offsets = new int[COUNT + 1];
+        long[] errors = new long[(COUNT + 63) / 64];
+        errors[0] = -1L;
+
+        int invalid = encoder.encode(numbers, COUNT, target, offsets, errors);
+
+        assertEncoded(numbers, invalid, offsets, errors, target);
+    }
+
+    @Test
+    @DisplayName("Should encode into a direct buffer without moving its position")
+    void shouldEncodeIntoDirectBuffer() {
+        int[] numbers = numbers();
+        ByteBuffer target = ByteBuffer.allocateDirect((int) encoder.encodedLength(numbers, COUNT));
+        int[] offsets = new int[COUNT + 1];
+        long[] errors = new long[(COUNT + 63) / 64];
+
+        int invalid = encoder.encode(numbers, COUNT, target, offsets, errors);
+
+        assertThat(target.position()).isZero();
+        byte[] bytes = new byte[target.capacity()];
+        target.get(0, bytes);
+        assertEncoded(numbers, invalid, offsets, errors, bytes);
+    }
+
+    @Test
+    @DisplayName("Should produce the same result on the common pool")
+    void shouldMatchOnCommonPool() {
+        int[] numbers = numbers();
+        int length = (int) encoder.encodedLength(numbers, COUNT);
+        byte[] expected = new byte[length];
+        byte[] actual = new byte[length];
+        encoder.encode(numbers, COUNT, expected, new int[COUNT + 1], new long[(COUNT + 63) / 64]);
+
+        new ArabicToRomanNumberBulkEncoderUseCase().encode(numbers, COUNT, actual, new int[COUNT + 1],
+                new long[(COUNT + 63) / 64]);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should handle an empty input")
+    void shouldEncodeEmptyInput() {
+        int[] offsets = {-1};
+
+        assertThat(encoder.encode(new int[0], 0, new byte[0], offsets, new long[0])).isZero();
+        assertThat(offsets[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject targets, offsets and error bitmaps that are too small")
+    void shouldRejectSmallArguments() {
+        int[] numbers = {1, 2, 3};
+
+        assertThatThrownBy(() -> encoder.encode(numbers, 3, new byte[5], new int[4], new long[1]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs 6 bytes");
+        assertThatThrownBy(() -> encoder.encode(numbers, 3, new byte[6], new int[3], new long[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> encoder.encode(numbers, 3, new byte[6], new int[4], new long[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> encoder.encode(numbers, 4, new byte[6], new int[5], new long[1]))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
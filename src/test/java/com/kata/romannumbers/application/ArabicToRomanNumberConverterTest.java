@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -114,4 +118,137 @@ public class ArabicToRomanNumberConverterTest {
             assertThat(converter.perform(949)).isEqualTo("CMXLIX");
         }
     }
+
+    @Nested
+    @DisplayName("Precomputed Table Validation")
+    class PrecomputedTableTests {
+
+        private static final int[] VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+        private static final String[] SYMBOLS = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+
+        private String greedyToRoman(int number) {
+            StringBuilder result = new StringBuilder();
+            int remaining = number;
+            for (int i = 0; i < VALUES.length; i++) {
+                while (remaining >= VALUES[i]) {
+                    result.append(SYMBOLS[i]);
+                    remaining -= VALUES[i];
+                }
+            }
+            return result.toString();
+        }
+
+        @Test
+        @DisplayName("Should match the greedy algorithm for every value from 1 to 3999")
+        void shouldMatchGreedyAlgorithmForEveryValue() {
+            for (int number = 1; number <= 3999; number++) {
+                assertThat(converter.perform(number))
+                        .as("Conversion mismatch for number %d", number)
+                        .isEqualTo(greedyToRoman(number));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the same shared instance on repeated calls")
+        void shouldReturnSharedInstance() {
+            assertThat(converter.perform(1994)).isSameAs(converter.perform(1994));
+            assertThat(converter.perform(1994)).isSameAs(new ArabicToRomanNumberConverterUseCase().perform(1994));
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive API")
+    class PrimitiveApiTests {
+
+        @Test
+        @DisplayName("Should append into an Appendable")
+        void shouldAppendIntoAppendable() throws IOException {
+            StringBuilder destination = new StringBuilder("Year ");
+            converter.perform(1994, destination);
+            assertThat(destination).hasToString("Year MCMXCIV");
+        }
+
+        @Test
+        @DisplayName("Should write into a char array at the given offset")
+        void shouldWriteIntoCharArray() {
+            char[] destination = new char[20];
+            int written = converter.perform(3888, destination, 2);
+            assertThat(written).isEqualTo(15);
+            assertThat(new String(destination, 2, written)).isEqualTo("MMMDCCCLXXXVIII");
+        }
+
+        @Test
+        @DisplayName("Should write ASCII bytes into a ByteBuffer")
+        void shouldWriteIntoByteBuffer() {
+            ByteBuffer destination = ByteBuffer.allocate(32);
+            converter.perform(4, destination);
+            destination.put((byte) ',');
+            converter.perform(3999, destination);
+            assertThat(new String(destination.array(), 0, destination.position(), StandardCharsets.US_ASCII))
+                    .isEqualTo("IV,MMMCMXCIX");
+        }
+
+        @Test
+        @DisplayName("Should agree with the String API for every value from 1 to 3999")
+        void shouldAgreeWithStringApi() {
+            char[] chars = new char[15];
+            ByteBuffer bytes = ByteBuffer.allocate(15);
+            for (int number = 1; number <= 3999; number++) {
+                String expected = converter.perform(Integer.valueOf(number));
+                int written = converter.perform(number, chars, 0);
+                assertThat(new String(chars, 0, written)).isEqualTo(expected);
+                bytes.clear();
+                converter.perform(number, bytes);
+                assertThat(new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII))
+                        .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("Border Case: Should reject out of range values and short destinations")
+        void shouldRejectOutOfRangeValuesAndShortDestinations() {
+            assertThatThrownBy(() -> converter.perform(0, new StringBuilder()))
+                    .isInstanceOf(InvalidArabicNumberException.class)
+                    .hasMessageContaining("Number must be between 1 and 3999");
+            assertThatThrownBy(() -> converter.perform(4000, new char[20], 0))
+                    .isInstanceOf(InvalidArabicNumberException.class);
+            assertThatThrownBy(() -> converter.perform(-1, ByteBuffer.allocate(20)))
+                    .isInstanceOf(InvalidArabicNumberException.class);
+            assertThatThrownBy(() -> converter.perform(8, new char[3], 0))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Exception-free API")
+    class ExceptionFreeApiTests {
+
+        @Test
+        @DisplayName("Should return a shared valid result")
+        void shouldReturnSharedValidResult() {
+            ConversionResult result = converter.tryPerform(1994);
+            assertThat(result.isValid()).isTrue();
+            assertThat(result.arabic()).isEqualTo(1994);
+            assertThat(result.roman()).isEqualTo("MCMXCIV");
+            assertThat(converter.tryPerform(1994)).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("Border Case: Should report out of range values without throwing")
+        void shouldReportOutOfRangeValues() {
+            ConversionResult result = converter.tryPerform(0);
+            assertThat(result.isValid()).isFalse();
+            assertThat(result.error()).isEqualTo(ConversionError.ARABIC_OUT_OF_RANGE);
+            assertThat(converter.tryPerform(4000)).isSameAs(result);
+            assertThat(converter.tryPerform(-1)).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("Should throw stackless exceptions on the throwing API")
+        void shouldThrowStacklessExceptions() {
+            assertThatThrownBy(() -> converter.perform(0))
+                    .isInstanceOf(InvalidArabicNumberException.class)
+                    .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        }
+    }
 }
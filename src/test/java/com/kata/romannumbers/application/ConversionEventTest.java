@@ -0,0 +1,103 @@
+package com.kata.romannumbers.application;
+
+import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Conversion Event Test")
+public class ConversionEventTest {
+
+    private final ArabicToRomanNumberConverter arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+    private final RomanToArabicNumberConverter romanToArabic = new RomanToArabicNumberConverterUseCase();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should record direction, input length and outcome of every conversion")
+    void shouldRecordEveryConversion() throws IOException {
+        List<RecordedEvent> events = record(Duration.ZERO, () -> {
+            arabicToRoman.tryPerform(1994);
+            arabicToRoman.tryPerform(-40);
+            arabicToRoman.perform(7, ByteBuffer.allocate(4));
+            assertThatThrownBy(() -> arabicToRoman.perform(4000)).isInstanceOf(InvalidArabicNumberException.class);
+            romanToArabic.tryPerform("MCMXCIV");
+            romanToArabic.tryPerform("");
+            assertThatThrownBy(() -> romanToArabic.decode("XIIII".getBytes(StandardCharsets.US_ASCII), 0, 5))
+                    .isInstanceOf(InvalidRomanNumberException.class);
+            assertThatThrownBy(() -> romanToArabic.perform("ABC")).isInstanceOf(InvalidRomanNumberException.class);
+        });
+
+        assertThat(events)
+                .extracting(event -> event.getString("direction"), event -> event.getInt("inputLength"),
+                        event -> event.getString("outcome"))
+                .containsExactly(
+                        tuple("arabic-to-roman", 4, "success"),
+                        tuple("arabic-to-roman", 3, "ARABIC_OUT_OF_RANGE"),
+                        tuple("arabic-to-roman", 1, "success"),
+                        tuple("arabic-to-roman", 4, "ARABIC_OUT_OF_RANGE"),
+                        tuple("roman-to-arabic", 7, "success"),
+                        tuple("roman-to-arabic", 0, "ROMAN_NULL_OR_EMPTY"),
+                        tuple("roman-to-arabic", 5, "ROMAN_INVALID_FORMAT"),
+                        tuple("roman-to-arabic", 3, "ROMAN_INVALID_FORMAT"));
+        assertThat(events).allSatisfy(event ->
+                assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should drop conversions faster than the threshold")
+    void shouldDropConversionsBelowThreshold() throws IOException {
+        List<RecordedEvent> events = record(Duration.ofSeconds(10), () -> {
+            arabicToRoman.tryPerform(42);
+            romanToArabic.tryPerform("XLII");
+        });
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not record conversions unless the event is enabled")
+    void shouldBeDisabledByDefault() throws IOException {
+        Path file = directory.resolve("default.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            arabicToRoman.tryPerform(42);
+            romanToArabic.tryPerform("XLII");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().equals(ConversionEvent.NAME));
+    }
+
+    private List<RecordedEvent> record(Duration threshold, Runnable conversions) throws IOException {
+        Path file = directory.resolve("conversions.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ConversionEvent.NAME).withThreshold(threshold);
+            recording.start();
+            conversions.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ConversionEvent.NAME))
+                .toList();
+    }
+}
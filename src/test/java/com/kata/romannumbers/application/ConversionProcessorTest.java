@@ -0,0 +1,482 @@
+package com.kata.romannumbers.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+@DisplayName("Conversion Processor Test")
+public class ConversionProcessorTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ArabicToRomanNumberConverter arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+    private final RomanToArabicNumberConverter romanToArabic = new RomanToArabicNumberConverterUseCase();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should convert arabic numbers in order and emit invalid ones as failed results")
+        void shouldConvertArabicNumbersInOrder() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                for (int number : new int[]{1, 0, 1994, 4000, 3999, -7}) {
+                    publisher.submit(number);
+                }
+            }
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.results).extracting(ConversionResult::roman)
+                    .containsExactly("I", null, "MCMXCIV", null, "MMMCMXCIX", null);
+            assertThat(subscriber.results).extracting(ConversionResult::error)
+                    .containsExactly(null, ConversionError.ARABIC_OUT_OF_RANGE, null,
+                            ConversionError.ARABIC_OUT_OF_RANGE, null, ConversionError.ARABIC_OUT_OF_RANGE);
+            assertThat(subscriber.completed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should convert roman numerals and keep going after malformed ones")
+        void shouldConvertRomanNumerals() throws InterruptedException {
+            RomanToArabicNumberProcessor processor = new RomanToArabicNumberProcessor(romanToArabic, executor, 2);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                for (String roman : new String[]{"XLII", "", "IIII", "mcmxciv", "ABC"}) {
+                    publisher.submit(roman);
+                }
+            }
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.results).extracting(ConversionResult::arabic)
+                    .containsExactly(42, 0, 0, 1994, 0);
+            assertThat(subscriber.results).extracting(ConversionResult::error)
+                    .containsExactly(null, ConversionError.ROMAN_NULL_OR_EMPTY, ConversionError.ROMAN_INVALID_FORMAT,
+                            null, ConversionError.ROMAN_INVALID_FORMAT);
+        }
+
+        @Test
+        @DisplayName("Should convert a long stream on the common pool with the default batch size")
+        void shouldConvertLongStream() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                IntStream.rangeClosed(1, 3999).forEach(publisher::submit);
+            }
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.results).hasSize(3999);
+            assertThat(subscriber.results).extracting(ConversionResult::arabic)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 3999).boxed().toList());
+        }
+
+        @Test
+        @DisplayName("Should drain on virtual threads when given a virtual thread executor")
+        void shouldDrainOnVirtualThreads() throws Exception {
+            ExecutorService virtualThreads = virtualThreadPerTaskExecutor();
+            try {
+                ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman,
+                        virtualThreads, 8);
+                CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+                processor.subscribe(subscriber);
+
+                try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                    publisher.subscribe(processor);
+                    IntStream.rangeClosed(1, 100).forEach(publisher::submit);
+                }
+
+                subscriber.awaitTermination();
+                assertThat(subscriber.results).hasSize(100);
+                assertThat(subscriber.onNextThreads).allSatisfy(thread -> assertThat(isVirtual(thread)).isTrue());
+            } finally {
+                virtualThreads.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should not emit more results than requested")
+        void shouldRespectDownstreamDemand() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 8);
+            CollectingSubscriber subscriber = new CollectingSubscriber(3);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+            for (int number = 1; number <= 8; number++) {
+                processor.onNext(number);
+            }
+
+            settle();
+            assertThat(subscriber.results).hasSize(3);
+
+            subscriber.subscription.request(2);
+            settle();
+            assertThat(subscriber.results).extracting(ConversionResult::arabic).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        @DisplayName("Should request upstream elements in batches")
+        void shouldRequestUpstreamInBatches() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 16);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+
+            for (int number = 1; number <= 12; number++) {
+                processor.onNext(number);
+            }
+            settle();
+
+            assertThat(upstream.requests).first().isEqualTo(16L);
+            assertThat(upstream.requests).allSatisfy(request -> assertThat(request).isGreaterThan(1L));
+            assertThat(upstream.requests.stream().mapToLong(Long::longValue).sum()).isEqualTo(28);
+        }
+
+        @Test
+        @DisplayName("Should complete without demand once everything has been emitted")
+        void shouldCompleteWithoutDemand() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(1);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new RecordingSubscription());
+            processor.onNext(10);
+            processor.onComplete();
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.results).extracting(ConversionResult::roman).containsExactly("X");
+            assertThat(subscriber.completed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Termination")
+    class TerminationTests {
+
+        @Test
+        @DisplayName("Should deliver an upstream error after the elements already received")
+        void shouldDeliverUpstreamErrorAfterElements() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new RecordingSubscription());
+            processor.onNext(5);
+            processor.onError(new IllegalStateException("source failed"));
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.results).extracting(ConversionResult::roman).containsExactly("V");
+            assertThat(subscriber.error).isInstanceOf(IllegalStateException.class).hasMessage("source failed");
+        }
+
+        @Test
+        @DisplayName("Should cancel upstream when the subscriber cancels")
+        void shouldCancelUpstream() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(1);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+
+            subscriber.subscription.cancel();
+            processor.onNext(1);
+            settle();
+
+            assertThat(upstream.cancelled).isTrue();
+            assertThat(subscriber.results).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should fail with IllegalArgumentException on a non-positive request")
+        void shouldFailOnNonPositiveRequest() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(0);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+            processor.onNext(1);
+
+            subscriber.subscription.request(0);
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+            assertThat(subscriber.results).isEmpty();
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should fail when upstream sends more elements than requested")
+        void shouldFailOnOverflow() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 2);
+            CollectingSubscriber subscriber = new CollectingSubscriber(0);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+            processor.onNext(1);
+            processor.onNext(2);
+            processor.onNext(3);
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.error).isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("more elements than requested");
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should fail the subscriber when the executor rejects the drain")
+        void shouldFailWhenDrainIsRejected() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            CollectingSubscriber subscriber = new CollectingSubscriber(1);
+            processor.subscribe(subscriber);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+            settle();
+            executor.shutdown();
+
+            processor.onNext(1);
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.error).isInstanceOf(RejectedExecutionException.class);
+            assertThat(subscriber.results).isEmpty();
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should deliver a rejected drain to a subscriber that arrives afterwards")
+        void shouldDeliverRejectionToLateSubscriber() throws InterruptedException {
+            executor.shutdown();
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            RecordingSubscription upstream = new RecordingSubscription();
+            processor.onSubscribe(upstream);
+            processor.onNext(1);
+            processor.onNext(2);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+            processor.subscribe(subscriber);
+
+            subscriber.awaitTermination();
+            assertThat(subscriber.error).isInstanceOf(RejectedExecutionException.class);
+            assertThat(subscriber.subscription).isNotNull();
+            assertThat(subscriber.results).isEmpty();
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not signal a subscriber before its onSubscribe has returned")
+        void shouldSignalAfterOnSubscribe() throws Exception {
+            ExecutorService racer = Executors.newSingleThreadExecutor();
+            try {
+                for (int i = 0; i < 200; i++) {
+                    ArabicToRomanNumberProcessor processor =
+                            new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+                    processor.onSubscribe(new RecordingSubscription());
+                    SlowSubscriber subscriber = new SlowSubscriber();
+                    CountDownLatch start = new CountDownLatch(1);
+                    Future<?> completion = racer.submit(() -> {
+                        start.await();
+                        processor.onComplete();
+                        return null;
+                    });
+
+                    start.countDown();
+                    processor.subscribe(subscriber);
+                    completion.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+                    subscriber.awaitTermination();
+                    assertThat(subscriber.signalledDuringOnSubscribe).isFalse();
+                    assertThat(subscriber.terminations).hasValue(1);
+                }
+            } finally {
+                racer.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a second subscriber")
+        void shouldRejectSecondSubscriber() throws InterruptedException {
+            ArabicToRomanNumberProcessor processor = new ArabicToRomanNumberProcessor(arabicToRoman, executor, 4);
+            processor.subscribe(new CollectingSubscriber(1));
+            CollectingSubscriber second = new CollectingSubscriber(1);
+
+            processor.subscribe(second);
+
+            second.awaitTermination();
+            assertThat(second.error).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive batch size")
+        void shouldRejectNonPositiveBatchSize() {
+            assertThatThrownBy(() -> new RomanToArabicNumberProcessor(romanToArabic, executor, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * Waits for the single-thread executor to run every drain task submitted so far.
+     */
+    private void settle() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() throws Exception {
+        // Looked up reflectively because the build targets Java 17
+        assumeThat(Runtime.version().feature()).isGreaterThanOrEqualTo(21);
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ConversionResult> {
+
+        private final long initialRequest;
+        private final List<ConversionResult> results = new CopyOnWriteArrayList<>();
+        private final List<Thread> onNextThreads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(ConversionResult item) {
+            results.add(item);
+            onNextThreads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void awaitTermination() throws InterruptedException {
+            assertThat(terminated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    /**
+     * Stays in {@code onSubscribe} for a while and notes any signal that arrives meanwhile.
+     */
+    private static final class SlowSubscriber implements Flow.Subscriber<ConversionResult> {
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final AtomicInteger terminations = new AtomicInteger();
+        private volatile boolean inOnSubscribe;
+        private volatile boolean signalledDuringOnSubscribe;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            inOnSubscribe = true;
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            inOnSubscribe = false;
+        }
+
+        @Override
+        public void onNext(ConversionResult item) {
+            signal();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signal();
+            terminations.incrementAndGet();
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            signal();
+            terminations.incrementAndGet();
+            terminated.countDown();
+        }
+
+        private void signal() {
+            if (inOnSubscribe) {
+                signalledDuringOnSubscribe = true;
+            }
+        }
+
+        void awaitTermination() throws InterruptedException {
+            assertThat(terminated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
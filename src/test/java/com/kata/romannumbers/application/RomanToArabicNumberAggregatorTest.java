@@ -0,0 +1,98 @@
+package com.kata.romannumbers.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Roman to Arabic Number Aggregator Test")
+public class RomanToArabicNumberAggregatorTest {
+
+    private final ArabicToRomanNumberConverter arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+    private final RomanToArabicNumberAggregator aggregator =
+            new RomanToArabicNumberAggregatorUseCase(new RomanToArabicNumberConverterUseCase());
+
+    private static RomanToArabicNumberAggregator.NumeralSource sourceOf(CharSequence[] numerals) {
+        int[] position = {0};
+        return chunk -> {
+            int count = Math.min(chunk.length, numerals.length - position[0]);
+            System.arraycopy(numerals, position[0], chunk, 0, count);
+            position[0] += count;
+            return count;
+        };
+    }
+
+    @Test
+    @DisplayName("Should aggregate inputs spanning several chunks like a sequential pass")
+    void shouldMatchSequentialAggregation() throws Exception {
+        SplittableRandom random = new SplittableRandom(7);
+        int size = RomanToArabicNumberAggregatorUseCase.CHUNK_SIZE * 3 + 123;
+        CharSequence[] numerals = new CharSequence[size];
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        long invalid = 0;
+        long[] histogram = new long[40];
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 0) {
+                numerals[i] = i % 20 == 0 ? "IIII" : null;
+                invalid++;
+            } else {
+                int value = random.nextInt(1, 4000);
+                numerals[i] = arabicToRoman.perform(value);
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                histogram[(value - 1) / 100]++;
+            }
+        }
+
+        RomanNumeralAggregate aggregate = aggregator.aggregate(sourceOf(numerals), 100);
+
+        assertThat(aggregate.count()).isEqualTo(size - invalid);
+        assertThat(aggregate.invalid()).isEqualTo(invalid);
+        assertThat(aggregate.sum()).isEqualTo(sum);
+        assertThat(aggregate.min()).isEqualTo(min);
+        assertThat(aggregate.max()).isEqualTo(max);
+        assertThat(aggregate.bucketCount()).isEqualTo(40);
+        long[] buckets = new long[aggregate.bucketCount()];
+        Arrays.setAll(buckets, aggregate::bucket);
+        assertThat(buckets).containsExactly(histogram);
+    }
+
+    @Test
+    @DisplayName("Should place values in buckets of the requested size, the last one truncated at 3999")
+    void shouldBucketValues() throws Exception {
+        RomanNumeralAggregate aggregate = aggregator.aggregate(
+                sourceOf(new CharSequence[]{"I", "M", "MI", "MMMCMXCIX"}), 1000);
+
+        assertThat(aggregate.bucketCount()).isEqualTo(4);
+        assertThat(aggregate.bucket(0)).isEqualTo(2);
+        assertThat(aggregate.bucket(1)).isEqualTo(1);
+        assertThat(aggregate.bucket(3)).isEqualTo(1);
+        assertThat(aggregate.bucketFrom(1)).isEqualTo(1001);
+        assertThat(aggregate.bucketTo(3)).isEqualTo(3999);
+    }
+
+    @Test
+    @DisplayName("Should report an empty aggregate for an empty source")
+    void shouldAggregateEmptySource() throws Exception {
+        RomanNumeralAggregate aggregate = aggregator.aggregate(sourceOf(new CharSequence[0]), 100);
+
+        assertThat(aggregate.count()).isZero();
+        assertThat(aggregate.sum()).isZero();
+        assertThat(aggregate.min()).isZero();
+        assertThat(aggregate.max()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject bucket sizes outside 1..3999")
+    void shouldRejectInvalidBucketSize() {
+        assertThatThrownBy(() -> new RomanNumeralAggregate(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RomanNumeralAggregate(4000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.kata.romannumbers.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Roman to Arabic Number Batch Decoder Test")
+public class RomanToArabicNumberBatchDecoderTest {
+
+    private static final List<String> INVALID_NUMERALS = List.of(
+            "", "IIII", "VV", "IL", "IC", "XM", "MMMM", "IVI", "XXL", "CCCC", "DM", "VX",
+            "ABC", "I I", "I ", " I", "X\u0000", "MCMXCIVI", "MMMDCCCLXXXVIII" + "I",
+            "MMMMMMMMMMMMMMMMMMMM", "12", "M-M", "é", "MMMCMXCIX ");
+
+    private final RomanToArabicNumberConverter converter = new RomanToArabicNumberConverterUseCase();
+
+    static Stream<RomanToArabicNumberBatchDecoder> decoders() {
+        return Stream.of(new RomanToArabicNumberBatchDecoderUseCase(), new RomanToArabicNumberScalarBatchDecoderUseCase());
+    }
+
+    private static Batch batchOf(List<String> numerals) {
+        ByteArrayOutputStream source = new ByteArrayOutputStream();
+        int[] offsets = new int[numerals.size() + 1];
+        for (int i = 0; i < numerals.size(); i++) {
+            source.writeBytes(numerals.get(i).getBytes(StandardCharsets.ISO_8859_1));
+            offsets[i + 1] = source.size();
+        }
+        return new Batch(source.toByteArray(), offsets, numerals.size());
+    }
+
+    private static boolean isError(long[] errors, int index) {
+        return (errors[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private record Batch(byte[] source, int[] offsets, int count) {
+
+        int decode(RomanToArabicNumberBatchDecoder decoder, int[] results, long[] errors) {
+            return decoder.decode(source, offsets, count, results, errors);
+        }
+    }
+
+    @Nested
+    @DisplayName("Valid Numerals")
+    class ValidNumeralTests {
+
+        @ParameterizedTest
+        @MethodSource("com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderTest#decoders")
+        @DisplayName("Should agree with the converter for every value from 1 to 3999")
+        void shouldAgreeWithConverterForEveryValue(RomanToArabicNumberBatchDecoder decoder) {
+            List<String> numerals = Stream.iterate(1, number -> number <= 3999, number -> number + 1)
+                    .map(ArabicToRomanNumberConverterUseCase::romanNumberOf)
+                    .toList();
+            Batch batch = batchOf(numerals);
+            int[] results = new int[batch.count()];
+            long[] errors = new long[(batch.count() + 63) / 64];
+
+            assertThat(batch.decode(decoder, results, errors)).isZero();
+
+            for (int i = 0; i < numerals.size(); i++) {
+                assertThat(results[i])
+                        .as("Decoding mismatch for %s", numerals.get(i))
+                        .isEqualTo(converter.perform(numerals.get(i)));
+            }
+            assertThat(errors).containsOnly(0L);
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderTest#decoders")
+        @DisplayName("Should decode lower and mixed case numerals")
+        void shouldDecodeLowerAndMixedCase(RomanToArabicNumberBatchDecoder decoder) {
+            Batch batch = batchOf(List.of("mcmxciv", "MmMcMxCiX", "xlii", "i"));
+            int[] results = new int[batch.count()];
+
+            assertThat(batch.decode(decoder, results, new long[1])).isZero();
+            assertThat(results).containsExactly(1994, 3999, 42, 1);
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderTest#decoders")
+        @DisplayName("Should decode numerals at the very end of the source")
+        void shouldDecodeNumeralsAtEndOfSource(RomanToArabicNumberBatchDecoder decoder) {
+            Batch batch = batchOf(List.of("MMMDCCCLXXXVIII", "MMMDCCCLXXXVIII", "IV"));
+            int[] results = new int[batch.count()];
+
+            assertThat(batch.decode(decoder, results, new long[1])).isZero();
+            assertThat(results).containsExactly(3888, 3888, 4);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Numerals")
+    class InvalidNumeralTests {
+
+        @ParameterizedTest
+        @MethodSource("com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderTest#decoders")
+        @DisplayName("Should flag every invalid numeral in the error bitmap")
+        void shouldFlagInvalidNumerals(RomanToArabicNumberBatchDecoder decoder) {
+            Batch batch = batchOf(INVALID_NUMERALS);
+            int[] results = new int[batch.count()];
+            long[] errors = new long[1];
+
+            assertThat(batch.decode(decoder, results, errors)).isEqualTo(INVALID_NUMERALS.size());
+
+            assertThat(results).containsOnly(0);
+            for (int i = 0; i < INVALID_NUMERALS.size(); i++) {
+                assertThat(isError(errors, i)).as("Expected error for '%s'", INVALID_NUMERALS.get(i)).isTrue();
+            }
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.kata.romannumbers.application.RomanToArabicNumberBatchDecoderTest#decoders")
+        @DisplayName("Should keep valid and invalid numerals apart in mixed batches spanning several bitmap words")
+        void shouldSeparateValidAndInvalidNumerals(RomanToArabicNumberBatchDecoder decoder) {
+            List<String> numerals = Stream.iterate(0, i -> i < 180, i -> i + 1)
+                    .map(i -> i % 3 == 0
+                            ? INVALID_NUMERALS.get(i % INVALID_NUMERALS.size())
+                            : ArabicToRomanNumberConverterUseCase.romanNumberOf(i * 19 + 1).toLowerCase(Locale.ROOT))
+                    .toList();
+            Batch batch = batchOf(numerals);
+            int[] results = new int[batch.count()];
+            long[] errors = {-1L, -1L, -1L, -1L};
+
+            assertThat(batch.decode(decoder, results, errors)).isEqualTo(60);
+
+            for (int i = 0; i < numerals.size(); i++) {
+                boolean invalid = i % 3 == 0;
+                assertThat(isError(errors, i)).as("Error bit of '%s'", numerals.get(i)).isEqualTo(invalid);
+                assertThat(results[i]).isEqualTo(invalid ? 0 : i * 19 + 1);
+            }
+            assertThat(errors[3]).as("Bits past the batch are left untouched").isEqualTo(-1L);
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -175,6 +177,111 @@ public class RomanToArabicNumberConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Single-pass Parser")
+    class SinglePassParserTests {
+
+        @Test
+        @DisplayName("Should convert every canonical roman number from 1 to 3999 in any case")
+        void shouldConvertEveryCanonicalRomanNumber() {
+            ArabicToRomanNumberConverter arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+            for (int number = 1; number <= 3999; number++) {
+                String roman = arabicToRoman.perform(number);
+                assertThat(converter.perform(roman))
+                        .as("Conversion mismatch for %s", roman)
+                        .isEqualTo(number);
+                assertThat(converter.perform(roman.toLowerCase()))
+                        .as("Conversion mismatch for %s", roman.toLowerCase())
+                        .isEqualTo(number);
+            }
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "IIII, I, 3",
+                "MMMM, M, 3",
+                "IIV, V, 2",
+                "XIIX, X, 3",
+                "MCMC, C, 3",
+                "VIV, V, 2",
+                "IXI, I, 2",
+                "X1V, 1, 1",
+                "ABC, A, 0"
+        })
+        @DisplayName("Should report the position of the first invalid character")
+        void shouldReportPositionOfFirstInvalidCharacter(String roman, char unexpected, int position) {
+            assertThatThrownBy(() -> converter.perform(roman))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessage("Invalid roman number format: %s (unexpected '%c' at position %d)",
+                            roman, unexpected, position);
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive API")
+    class PrimitiveApiTests {
+
+        @Test
+        @DisplayName("Should decode any CharSequence")
+        void shouldDecodeCharSequence() {
+            assertThat(converter.decode(new StringBuilder("mcmxciv"))).isEqualTo(1994);
+            assertThat(converter.decode("MMMCMXCIX")).isEqualTo(3999);
+        }
+
+        @Test
+        @DisplayName("Should decode a byte range")
+        void shouldDecodeByteRange() {
+            byte[] source = "IV,xlii,MMMCMXCIX".getBytes(StandardCharsets.US_ASCII);
+            assertThat(converter.decode(source, 0, 2)).isEqualTo(4);
+            assertThat(converter.decode(source, 3, 4)).isEqualTo(42);
+            assertThat(converter.decode(source, 8, 9)).isEqualTo(3999);
+        }
+
+        @Test
+        @DisplayName("Should report positions relative to the byte range")
+        void shouldReportPositionsRelativeToByteRange() {
+            byte[] source = "XX,IIII".getBytes(StandardCharsets.US_ASCII);
+            assertThatThrownBy(() -> converter.decode(source, 3, 4))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessage("Invalid roman number format: IIII (unexpected 'I' at position 3)");
+            assertThatThrownBy(() -> converter.decode(source, 2, 0))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessageContaining("Roman number cannot be null or empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("Exception-free API")
+    class ExceptionFreeApiTests {
+
+        @Test
+        @DisplayName("Should return a shared valid result with the canonical numeral")
+        void shouldReturnSharedValidResult() {
+            ConversionResult result = converter.tryPerform("mcmxciv");
+            assertThat(result.isValid()).isTrue();
+            assertThat(result.arabic()).isEqualTo(1994);
+            assertThat(result.roman()).isEqualTo("MCMXCIV");
+            assertThat(converter.tryPerform("MCMXCIV")).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("Should report invalid input without throwing")
+        void shouldReportInvalidInput() {
+            assertThat(converter.tryPerform(null).error()).isEqualTo(ConversionError.ROMAN_NULL_OR_EMPTY);
+            assertThat(converter.tryPerform("").error()).isEqualTo(ConversionError.ROMAN_NULL_OR_EMPTY);
+            assertThat(converter.tryPerform("IIII").error()).isEqualTo(ConversionError.ROMAN_INVALID_FORMAT);
+            assertThat(converter.tryPerform("ABC")).isSameAs(converter.tryPerform("IIII"));
+        }
+
+        @Test
+        @DisplayName("Should throw stackless exceptions on the throwing API")
+        void shouldThrowStacklessExceptions() {
+            assertThatThrownBy(() -> converter.perform("IIII"))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        }
+    }
+
 //    @Nested
 //    @DisplayName("Round-trip Conversion Tests")
 //    class RoundTripTests {
@@ -0,0 +1,151 @@
+package com.kata.romannumbers.application;
+
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Roman to Arabic Number Reverse Index Test")
+public class RomanToArabicNumberReverseIndexTest {
+
+    private RomanToArabicNumberConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new RomanToArabicNumberReverseIndexUseCase();
+    }
+
+    @Nested
+    @DisplayName("Roman to Arabic Lookup")
+    class RomanToArabicLookupTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "I, 1",
+                "IV, 4",
+                "XLIX, 49",
+                "CM, 900",
+                "MCMXCIV, 1994",
+                "MMMDCCCLXXXVIII, 3888",
+                "MMMCMXCIX, 3999"
+        })
+        @DisplayName("Should convert various roman numbers correctly")
+        void shouldConvertVariousRomanNumbers(String roman, int expectedArabic) {
+            assertThat(converter.perform(roman)).isEqualTo(expectedArabic);
+        }
+
+        @Test
+        @DisplayName("Should handle lowercase and mixed case roman numbers")
+        void shouldHandleLowercaseAndMixedCaseRomanNumbers() {
+            assertThat(converter.perform("mcmxciv")).isEqualTo(1994);
+            assertThat(converter.perform("McmXCIV")).isEqualTo(1994);
+        }
+
+        @Test
+        @DisplayName("Should agree with the parser for every canonical roman number")
+        void shouldAgreeWithParserForEveryCanonicalRomanNumber() {
+            ArabicToRomanNumberConverter arabicToRoman = new ArabicToRomanNumberConverterUseCase();
+            RomanToArabicNumberConverter parser = new RomanToArabicNumberConverterUseCase();
+            for (int number = 1; number <= 3999; number++) {
+                String roman = arabicToRoman.perform(number);
+                assertThat(converter.perform(roman))
+                        .as("Lookup mismatch for %s", roman)
+                        .isEqualTo(parser.perform(roman));
+            }
+        }
+
+        @Test
+        @DisplayName("Border Case: Should throw exception for null or empty input")
+        void shouldThrowExceptionForNullOrEmptyInput() {
+            assertThatThrownBy(() -> converter.perform(null))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessageContaining("Roman number cannot be null or empty");
+
+            assertThatThrownBy(() -> converter.perform(""))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessageContaining("Roman number cannot be null or empty");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"IIII", "VV", "IC", "IM", "XD", "VX", "MMMM", "ABC", "X1V", "I V",
+                "MMMDCCCLXXXVIIII", "ıv", "İV"})
+        @DisplayName("Should throw exception for invalid roman numbers")
+        void shouldThrowExceptionForInvalidRomanNumbers(String roman) {
+            assertThatThrownBy(() -> converter.perform(roman))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessage("Invalid roman number format: %s", roman);
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive API")
+    class PrimitiveApiTests {
+
+        @Test
+        @DisplayName("Should decode any CharSequence")
+        void shouldDecodeCharSequence() {
+            assertThat(converter.decode(new StringBuilder("mcmxciv"))).isEqualTo(1994);
+        }
+
+        @Test
+        @DisplayName("Should decode a byte range")
+        void shouldDecodeByteRange() {
+            byte[] source = "IV,xlii,MMMCMXCIX".getBytes(StandardCharsets.US_ASCII);
+            assertThat(converter.decode(source, 0, 2)).isEqualTo(4);
+            assertThat(converter.decode(source, 3, 4)).isEqualTo(42);
+            assertThat(converter.decode(source, 8, 9)).isEqualTo(3999);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid byte ranges")
+        void shouldRejectInvalidByteRanges() {
+            byte[] source = "XX,IIII".getBytes(StandardCharsets.US_ASCII);
+            assertThatThrownBy(() -> converter.decode(source, 3, 4))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .hasMessage("Invalid roman number format: IIII");
+            assertThatThrownBy(() -> converter.decode(source, 0, 3))
+                    .isInstanceOf(InvalidRomanNumberException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Exception-free API")
+    class ExceptionFreeApiTests {
+
+        @Test
+        @DisplayName("Should return a shared valid result with the canonical numeral")
+        void shouldReturnSharedValidResult() {
+            ConversionResult result = converter.tryPerform("mcmxciv");
+            assertThat(result.isValid()).isTrue();
+            assertThat(result.arabic()).isEqualTo(1994);
+            assertThat(result.roman()).isEqualTo("MCMXCIV");
+            assertThat(converter.tryPerform("MCMXCIV")).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("Should report invalid input without throwing")
+        void shouldReportInvalidInput() {
+            assertThat(converter.tryPerform(null).error()).isEqualTo(ConversionError.ROMAN_NULL_OR_EMPTY);
+            assertThat(converter.tryPerform("").error()).isEqualTo(ConversionError.ROMAN_NULL_OR_EMPTY);
+            assertThat(converter.tryPerform("IIII").error()).isEqualTo(ConversionError.ROMAN_INVALID_FORMAT);
+            assertThat(converter.tryPerform("ABC")).isSameAs(converter.tryPerform("IIII"));
+        }
+
+        @Test
+        @DisplayName("Should throw stackless exceptions on the throwing API")
+        void shouldThrowStacklessExceptions() {
+            assertThatThrownBy(() -> converter.perform("IIII"))
+                    .isInstanceOf(InvalidRomanNumberException.class)
+                    .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+import com.kata.romannumbers.RomanNumbersKataApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulk File Conversion Runner Test")
+public class BulkFileConversionRunnerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should convert the input file and write rejects next to the output by default")
+    void shouldConvertInputFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "1994\nabc\n4000\n7\n");
+        Path output = directory.resolve("output.txt");
+
+        int exitCode = runCli("--direction=arabic-to-roman", "--input=" + input, "--output=" + output,
+                "--threads=2");
+
+        assertThat(exitCode).isZero();
+        assertThat(Files.readAllLines(output)).containsExactly("MCMXCIV", "VII");
+        assertThat(Files.readAllLines(directory.resolve("output.txt.rejects")))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line.split("\t")).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("Should write rejects to the given file")
+    void shouldWriteRejectsToGivenFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "XLII\nIIII\n");
+        Path output = directory.resolve("output.txt");
+        Path rejects = directory.resolve("invalid.txt");
+
+        runCli("--direction=roman-to-arabic", "--input=" + input, "--output=" + output, "--rejects=" + rejects);
+
+        assertThat(Files.readAllLines(output)).containsExactly("42");
+        assertThat(Files.readAllLines(rejects)).singleElement()
+                .asString()
+                .startsWith("2\tIIII\tInvalid roman number format");
+    }
+
+    @Test
+    @DisplayName("Should fail when a required option is missing")
+    void shouldFailWithoutRequiredOption() {
+        Path output = directory.resolve("output.txt");
+
+        assertThatThrownBy(() -> runCli("--direction=arabic-to-roman", "--output=" + output))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Missing required option --input");
+        assertThat(output).doesNotExist();
+    }
+
+    private static int runCli(String... args) {
+        return SpringApplication.exit(new SpringApplicationBuilder(RomanNumbersKataApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("cli")
+                .run(args));
+    }
+}
@@ -0,0 +1,132 @@
+package com.kata.romannumbers.infrastructure.input.cli;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Bulk File Converter Test")
+public class BulkFileConverterTest {
+
+    @TempDir
+    private Path directory;
+
+    private BulkFileConverter converter;
+    private Path input;
+    private Path output;
+    private Path rejects;
+
+    @BeforeEach
+    void setUp() {
+        // A tiny chunk size forces many line-aligned chunks
+        converter = new BulkFileConverter(new ArabicToRomanNumberConverterUseCase(),
+                new RomanToArabicNumberConverterUseCase(), 16);
+        input = directory.resolve("input.txt");
+        output = directory.resolve("output.txt");
+        rejects = directory.resolve("rejects.txt");
+    }
+
+    @Test
+    @DisplayName("Should convert every Arabic number in order across chunks")
+    void shouldConvertArabicNumbersInOrder() throws IOException {
+        Files.writeString(input, IntStream.rangeClosed(1, 3999)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining("\n", "", "\n")));
+
+        BulkConversionReport report = converter.convert(input, output, rejects,
+                ConversionDirection.ARABIC_TO_ROMAN, 4);
+
+        ArabicToRomanNumberConverterUseCase reference = new ArabicToRomanNumberConverterUseCase();
+        assertThat(report.lines()).isEqualTo(3999);
+        assertThat(report.errors()).isZero();
+        assertThat(Files.readAllLines(output)).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, 3999).mapToObj(reference::perform).toList());
+        assertThat(Files.readString(rejects)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should convert Roman numbers with CRLF endings and no trailing newline")
+    void shouldConvertRomanNumbers() throws IOException {
+        Files.writeString(input, "I\r\nxlii\r\nMMMCMXCIX");
+
+        BulkConversionReport report = converter.convert(input, output, rejects,
+                ConversionDirection.ROMAN_TO_ARABIC, 2);
+
+        assertThat(report.lines()).isEqualTo(3);
+        assertThat(Files.readAllLines(output)).containsExactly("1", "42", "3999");
+    }
+
+    @Test
+    @DisplayName("Should write invalid lines to the rejects file without stopping")
+    void shouldWriteInvalidLinesToRejects() throws IOException {
+        Files.writeString(input, "10\n0\nabc\n\n4000\n20\n");
+
+        BulkConversionReport report = converter.convert(input, output, rejects,
+                ConversionDirection.ARABIC_TO_ROMAN, 2);
+
+        assertThat(report.lines()).isEqualTo(6);
+        assertThat(report.errors()).isEqualTo(4);
+        assertThat(Files.readAllLines(output)).containsExactly("X", "XX");
+        List<String> rejected = Files.readAllLines(rejects);
+        assertThat(rejected).hasSize(4);
+        assertThat(rejected.get(0)).isEqualTo("2\t0\tNumber must be between 1 and 3999, but was 0");
+        assertThat(rejected.get(1)).startsWith("3\tabc\t");
+        assertThat(rejected.get(2)).startsWith("4\t\t");
+        assertThat(rejected.get(3)).startsWith("5\t4000\t");
+    }
+
+    @Test
+    @DisplayName("Should handle lines longer than the chunk size")
+    void shouldHandleLinesLongerThanChunk() throws IOException {
+        String longLine = "M".repeat(40);
+        Files.writeString(input, "V\n" + longLine + "\nX\n");
+
+        BulkConversionReport report = converter.convert(input, output, rejects,
+                ConversionDirection.ROMAN_TO_ARABIC, 2);
+
+        assertThat(report.lines()).isEqualTo(3);
+        assertThat(Files.readAllLines(output)).containsExactly("5", "10");
+        assertThat(Files.readAllLines(rejects)).singleElement().asString().startsWith("2\t" + longLine);
+    }
+
+    @Test
+    @DisplayName("Should produce empty outputs for an empty file")
+    void shouldHandleEmptyFile() throws IOException {
+        Files.writeString(input, "");
+
+        BulkConversionReport report = converter.convert(input, output, rejects,
+                ConversionDirection.ROMAN_TO_ARABIC, 2);
+
+        assertThat(report.lines()).isZero();
+        assertThat(Files.size(output)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail the run instead of rejecting the line when conversion breaks")
+    void shouldFailOnUnexpectedErrors() throws IOException {
+        ArabicToRomanNumberConverter broken = mock(ArabicToRomanNumberConverter.class);
+        when(broken.perform(any(Integer.class))).thenThrow(new IllegalStateException("broken"));
+        BulkFileConverter failing = new BulkFileConverter(broken, new RomanToArabicNumberConverterUseCase(), 16);
+        Files.writeString(input, "1\n2\n");
+
+        assertThatThrownBy(() -> failing.convert(input, output, rejects, ConversionDirection.ARABIC_TO_ROMAN, 2))
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kata.romannumbers.infrastructure.input.grpc;
+
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ArabicToRomanRequest;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanNumbersServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("gRPC Server Lifecycle Test")
+public class GrpcServerLifecycleTest {
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Test
+    @DisplayName("Should serve conversions on a localhost port")
+    void shouldServeConversionsOnLocalhost() throws InterruptedException {
+        assertThat(grpcServer.isRunning()).isTrue();
+
+        ManagedChannel channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort())
+                .usePlaintext()
+                .build();
+        try {
+            ConversionReply reply = RomanNumbersServiceGrpc.newBlockingStub(channel)
+                    .arabicToRoman(ArabicToRomanRequest.newBuilder().setNumber(42).build());
+
+            assertThat(reply.getRoman()).isEqualTo("XLII");
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.kata.romannumbers.infrastructure.input.grpc;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ArabicToRomanRequest;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.FailureReason;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanNumbersServiceGrpc;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.RomanToArabicRequest;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Roman Numbers gRPC Service Test")
+public class RomanNumbersGrpcServiceTest {
+
+    private Server server;
+    private ManagedChannel channel;
+    private RomanNumbersServiceGrpc.RomanNumbersServiceBlockingStub blockingStub;
+    private RomanNumbersServiceGrpc.RomanNumbersServiceStub asyncStub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new RomanNumbersGrpcService(new ArabicToRomanNumberConverterUseCase(),
+                        new RomanToArabicNumberConverterUseCase(), new ConversionMetrics(new SimpleMeterRegistry())))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blockingStub = RomanNumbersServiceGrpc.newBlockingStub(channel);
+        asyncStub = RomanNumbersServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static ArabicToRomanRequest arabic(int number) {
+        return ArabicToRomanRequest.newBuilder().setNumber(number).build();
+    }
+
+    private static RomanToArabicRequest roman(String roman) {
+        return RomanToArabicRequest.newBuilder().setRoman(roman).build();
+    }
+
+    private static class CollectingObserver implements StreamObserver<ConversionReply> {
+
+        private final List<ConversionReply> replies = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<List<ConversionReply>> completed = new CompletableFuture<>();
+
+        @Override
+        public void onNext(ConversionReply reply) {
+            replies.add(reply);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.complete(replies);
+        }
+
+        List<ConversionReply> await() throws Exception {
+            return completed.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Unary RPCs")
+    class UnaryTests {
+
+        @Test
+        @DisplayName("Should convert Arabic number to Roman")
+        void shouldConvertArabicToRoman() {
+            ConversionReply reply = blockingStub.arabicToRoman(arabic(1994));
+
+            assertThat(reply.getArabic()).isEqualTo(1994);
+            assertThat(reply.getRoman()).isEqualTo("MCMXCIV");
+            assertThat(reply.hasFailure()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should convert Roman number to Arabic in either case")
+        void shouldConvertRomanToArabic() {
+            ConversionReply reply = blockingStub.romanToArabic(roman("mmxxv"));
+
+            assertThat(reply.getArabic()).isEqualTo(2025);
+            assertThat(reply.getRoman()).isEqualTo("MMXXV");
+        }
+
+        @Test
+        @DisplayName("Should report rejected input in the reply")
+        void shouldReportRejectedInput() {
+            ConversionReply outOfRange = blockingStub.arabicToRoman(arabic(4000));
+            ConversionReply invalid = blockingStub.romanToArabic(roman("IIII"));
+            ConversionReply empty = blockingStub.romanToArabic(roman(""));
+
+            assertThat(outOfRange.getFailure().getReason()).isEqualTo(FailureReason.ARABIC_OUT_OF_RANGE);
+            assertThat(outOfRange.getFailure().getError()).isEqualTo("Invalid Arabic Number");
+            assertThat(outOfRange.getFailure().getMessage()).isEqualTo("Number must be between 1 and 3999");
+            assertThat(invalid.getFailure().getReason()).isEqualTo(FailureReason.ROMAN_INVALID_FORMAT);
+            assertThat(invalid.getFailure().getError()).isEqualTo("Invalid Roman Number");
+            assertThat(empty.getFailure().getReason()).isEqualTo(FailureReason.ROMAN_NULL_OR_EMPTY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bidirectional Streaming RPCs")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should reply to every Arabic number in order without failing the stream")
+        void shouldStreamArabicToRoman() throws Exception {
+            CollectingObserver observer = new CollectingObserver();
+            StreamObserver<ArabicToRomanRequest> requests = asyncStub.arabicToRomanStream(observer);
+            for (int number : new int[]{1, 0, 3999, -5, 44}) {
+                requests.onNext(arabic(number));
+            }
+            requests.onCompleted();
+
+            List<ConversionReply> replies = observer.await();
+            assertThat(replies).extracting(ConversionReply::getRoman)
+                    .containsExactly("I", "", "MMMCMXCIX", "", "XLIV");
+            assertThat(replies).extracting(reply -> reply.getFailure().getReason())
+                    .containsExactly(FailureReason.FAILURE_REASON_UNSPECIFIED, FailureReason.ARABIC_OUT_OF_RANGE,
+                            FailureReason.FAILURE_REASON_UNSPECIFIED, FailureReason.ARABIC_OUT_OF_RANGE,
+                            FailureReason.FAILURE_REASON_UNSPECIFIED);
+        }
+
+        @Test
+        @DisplayName("Should convert a long Roman stream end to end")
+        void shouldStreamRomanToArabic() throws Exception {
+            CollectingObserver observer = new CollectingObserver();
+            StreamObserver<RomanToArabicRequest> requests = asyncStub.romanToArabicStream(observer);
+            for (int number = 1; number <= 3999; number++) {
+                requests.onNext(roman(number % 500 == 0 ? "ABC" : new ArabicToRomanNumberConverterUseCase().perform(number)));
+            }
+            requests.onCompleted();
+
+            List<ConversionReply> replies = observer.await();
+            assertThat(replies).hasSize(3999);
+            for (int number = 1; number <= 3999; number++) {
+                ConversionReply reply = replies.get(number - 1);
+                if (number % 500 == 0) {
+                    assertThat(reply.getFailure().getReason()).isEqualTo(FailureReason.ROMAN_INVALID_FORMAT);
+                } else {
+                    assertThat(reply.getArabic()).isEqualTo(number);
+                }
+            }
+        }
+    }
+}
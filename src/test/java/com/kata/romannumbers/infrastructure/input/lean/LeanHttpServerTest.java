@@ -0,0 +1,147 @@
+package com.kata.romannumbers.infrastructure.input.lean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs Tomcat and the lean server in the same context and checks that both answer alike.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "roman-numbers.lean-http.enabled=true",
+        "roman-numbers.lean-http.port=0"
+})
+@DisplayName("Lean HTTP Server Test")
+public class LeanHttpServerTest {
+
+    private static final String ARABIC_TO_ROMAN = "/api/v1/roman-numbers/arabic-to-roman";
+    private static final String ROMAN_TO_ARABIC = "/api/v1/roman-numbers/roman-to-arabic";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int tomcatPort;
+
+    @Autowired
+    private LeanHttpServer leanServer;
+
+    @Nested
+    @DisplayName("Parity with Spring MVC")
+    class Parity {
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @ValueSource(strings = {"number=42", "number=3999", "number=1&number=2", "other=x&number=7", "number=007",
+                "number=%2B7", "number=0x10", "number=0", "number=4000", "number=-1", "number=99999999999",
+                "number=abc", "number=", "number", "number=%20", "", "numbers=5"})
+        @DisplayName("Should answer arabic to roman requests like Spring MVC")
+        void shouldAnswerArabicToRomanLikeSpringMvc(String query) throws Exception {
+            assertSameResponse(ARABIC_TO_ROMAN + "?" + query);
+        }
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @ValueSource(strings = {"roman=XLII", "roman=mcmxciv", "roman=MMMCMXCIX", "roman=%4D%43", "roman=IIII",
+                "roman=ABC", "roman=X%20", "roman=X+I", "roman=", "roman", "", "romans=X"})
+        @DisplayName("Should answer roman to arabic requests like Spring MVC")
+        void shouldAnswerRomanToArabicLikeSpringMvc(String query) throws Exception {
+            assertSameResponse(ROMAN_TO_ARABIC + "?" + query);
+        }
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @ValueSource(strings = {"application/cbor", "application/x-jackson-smile", "application/x-protobuf",
+                "application/json;q=0.5, application/cbor", "text/html"})
+        @DisplayName("Should negotiate the response format like Spring MVC")
+        void shouldNegotiateFormatLikeSpringMvc(String accept) throws Exception {
+            for (String pathAndQuery : new String[]{ARABIC_TO_ROMAN + "?number=42", ARABIC_TO_ROMAN + "?number=0",
+                    ROMAN_TO_ARABIC + "?roman=XLII", ROMAN_TO_ARABIC + "?roman=IIII"}) {
+                HttpResponse<byte[]> expected = get(tomcatPort, pathAndQuery, accept);
+                HttpResponse<byte[]> actual = get(leanServer.getPort(), pathAndQuery, accept);
+
+                assertThat(actual.statusCode()).isEqualTo(expected.statusCode());
+                assertThat(actual.body()).isEqualTo(expected.body());
+                assertThat(actual.headers().firstValue(HttpHeaders.CONTENT_TYPE))
+                        .isEqualTo(expected.headers().firstValue(HttpHeaders.CONTENT_TYPE));
+                assertThat(actual.headers().firstValue(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+                assertThat(actual.headers().firstValue(HttpHeaders.ETAG))
+                        .isEqualTo(expected.headers().firstValue(HttpHeaders.ETAG));
+            }
+        }
+
+        private void assertSameResponse(String pathAndQuery) throws Exception {
+            HttpResponse<String> expected = get(tomcatPort, pathAndQuery);
+            HttpResponse<String> actual = get(leanServer.getPort(), pathAndQuery);
+
+            assertThat(actual.statusCode()).isEqualTo(expected.statusCode());
+            assertThat(actual.body()).isEqualTo(expected.body());
+            assertThat(actual.headers().firstValue(HttpHeaders.CONTENT_TYPE))
+                    .isEqualTo(expected.headers().firstValue(HttpHeaders.CONTENT_TYPE));
+            assertThat(actual.headers().firstValue(HttpHeaders.ETAG))
+                    .isEqualTo(expected.headers().firstValue(HttpHeaders.ETAG));
+            assertThat(actual.headers().firstValue(HttpHeaders.CACHE_CONTROL))
+                    .isEqualTo(expected.headers().firstValue(HttpHeaders.CACHE_CONTROL));
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        String etag = get(leanServer.getPort(), ARABIC_TO_ROMAN + "?number=42").headers()
+                .firstValue(HttpHeaders.ETAG)
+                .orElseThrow();
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(leanServer.getPort(),
+                        ARABIC_TO_ROMAN + "?number=42"))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(304);
+        assertThat(response.body()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for paths below an endpoint")
+    void shouldReturn404ForUnknownPath() throws Exception {
+        assertThat(get(leanServer.getPort(), ARABIC_TO_ROMAN + "/extra?number=1").statusCode()).isEqualTo(404);
+        assertThat(get(leanServer.getPort(), "/api/v1/roman-numbers").statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Should return 405 for methods other than GET")
+    void shouldReturn405ForOtherMethods() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(leanServer.getPort(),
+                        ROMAN_TO_ARABIC + "?roman=X"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(405);
+        assertThat(response.headers().firstValue(HttpHeaders.ALLOW)).contains("GET");
+    }
+
+    private HttpResponse<String> get(int port, String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(port, pathAndQuery)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<byte[]> get(int port, String pathAndQuery, String accept)
+            throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(port, pathAndQuery)).header(HttpHeaders.ACCEPT, accept).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static URI uri(int port, String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+}
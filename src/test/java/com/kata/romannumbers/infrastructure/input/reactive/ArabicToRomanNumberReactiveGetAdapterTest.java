@@ -0,0 +1,163 @@
+package com.kata.romannumbers.infrastructure.input.reactive;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.FailureReason;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+@DisplayName("Arabic to Roman Numbers Reactive Adapter Test")
+public class ArabicToRomanNumberReactiveGetAdapterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/arabic-to-roman";
+
+    private WebTestClient.ResponseSpec get(String number) {
+        return webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("number", number).build())
+                .exchange();
+    }
+
+    @Test
+    @DisplayName("Should convert Arabic number to Roman successfully")
+    void shouldConvertArabicToRoman() {
+        get("42")
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.arabic").isEqualTo(42)
+                .jsonPath("$.roman").isEqualTo("XLII");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, I",
+            "4, IV",
+            "5, V",
+            "9, IX",
+            "10, X",
+            "50, L",
+            "100, C",
+            "500, D",
+            "1000, M",
+            "1994, MCMXCIV",
+            "3999, MMMCMXCIX"
+    })
+    @DisplayName("Should convert various Arabic numbers correctly")
+    void shouldConvertVariousArabicNumbers(int number, String expectedRoman) {
+        get(String.valueOf(number))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.arabic").isEqualTo(number)
+                .jsonPath("$.roman").isEqualTo(expectedRoman);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for number below minimum")
+    void shouldReturn400ForNumberBelowMinimum() {
+        get("0")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Arabic Number")
+                .jsonPath("$.message").value(containsString("Number must be between 1 and 3999"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for number above maximum")
+    void shouldReturn400ForNumberAboveMaximum() {
+        get("4000")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Arabic Number")
+                .jsonPath("$.message").value(containsString("Number must be between 1 and 3999"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for negative number")
+    void shouldReturn400ForNegativeNumber() {
+        get("-10")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Arabic Number");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid number format")
+    void shouldReturn400ForInvalidNumberFormat() {
+        get("abc")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Type mismatch error")
+                .jsonPath("$.message").value(containsString("cannot be converted to Integer"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when number parameter is missing")
+    void shouldReturn400WhenNumberParameterMissing() {
+        webTestClient.get().uri(URL_BASE).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Missing Request Parameter");
+    }
+
+    @Test
+    @DisplayName("Should encode the conversion in the negotiated format and vary on Accept")
+    void shouldNegotiateFormat() throws Exception {
+        byte[] body = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("number", "42").build())
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody().returnResult().getResponseBody();
+        assertThat(new CBORMapper().readValue(body, ArabicToRomanNumberResponse.class))
+                .isEqualTo(new ArabicToRomanNumberResponse(42, "XLII"));
+
+        byte[] errorBody = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("number", "4000").build())
+                .header(HttpHeaders.ACCEPT, "application/x-protobuf")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentTypeCompatibleWith("application/x-protobuf")
+                .expectBody().returnResult().getResponseBody();
+        assertThat(ConversionReply.parseFrom(errorBody).getFailure().getReason())
+                .isEqualTo(FailureReason.ARABIC_OUT_OF_RANGE);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() {
+        String etag = get("42")
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.CACHE_CONTROL, ".*immutable.*")
+                .expectBody(String.class).isEqualTo("{\"arabic\":42,\"roman\":\"XLII\"}")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("number", "42").build())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+}
@@ -0,0 +1,143 @@
+package com.kata.romannumbers.infrastructure.input.reactive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+@DisplayName("Roman to Arabic Numbers Reactive Adapter Test")
+public class RomanToArabicNumberReactiveGetAdapterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/roman-to-arabic";
+
+    private WebTestClient.ResponseSpec get(String roman) {
+        return webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("roman", roman).build())
+                .exchange();
+    }
+
+    @Test
+    @DisplayName("Should convert Roman number to Arabic successfully")
+    void shouldConvertRomanToArabic() {
+        get("XLII")
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.roman").isEqualTo("XLII")
+                .jsonPath("$.arabic").isEqualTo(42);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "I, 1",
+            "IV, 4",
+            "V, 5",
+            "IX, 9",
+            "X, 10",
+            "L, 50",
+            "C, 100",
+            "D, 500",
+            "M, 1000",
+            "MCMXCIV, 1994",
+            "MMMCMXCIX, 3999"
+    })
+    @DisplayName("Should convert various Roman numbers correctly")
+    void shouldConvertVariousRomanNumbers(String roman, int expectedArabic) {
+        get(roman)
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.roman").isEqualTo(roman)
+                .jsonPath("$.arabic").isEqualTo(expectedArabic);
+    }
+
+    @Test
+    @DisplayName("Should handle lowercase and mixed case Roman numbers")
+    void shouldHandleLowercaseAndMixedCaseRomanNumbers() {
+        get("xlii")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.roman").isEqualTo("XLII")
+                .jsonPath("$.arabic").isEqualTo(42);
+
+        get("XlIi")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.roman").isEqualTo("XLII")
+                .jsonPath("$.arabic").isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for Invalid Roman Number")
+    void shouldReturn400ForInvalidRomanNumber() {
+        get("IIII")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Roman Number")
+                .jsonPath("$.message").value(containsString("Invalid roman number format"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for empty Roman number")
+    void shouldReturn400ForEmptyRomanNumber() {
+        get("")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Roman Number")
+                .jsonPath("$.message").value(containsString("cannot be null or empty"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when Roman parameter is missing")
+    void shouldReturn400WhenRomanParameterMissing() {
+        webTestClient.get().uri(URL_BASE).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Missing Request Parameter");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for Invalid Roman Number patterns")
+    void shouldReturn400ForInvalidPatterns() {
+        String[] invalidPatterns = {"VV", "LL", "DD", "IC", "IM", "XD", "XM", "VX", "IL", "IIIII", "ABC"};
+
+        for (String pattern : invalidPatterns) {
+            get(pattern)
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Invalid Roman Number");
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() {
+        String etag = get("XLII")
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.CACHE_CONTROL, ".*immutable.*")
+                .expectBody(String.class).isEqualTo("{\"roman\":\"XLII\",\"arabic\":42}")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(URL_BASE).queryParam("roman", "XLII").build())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+}
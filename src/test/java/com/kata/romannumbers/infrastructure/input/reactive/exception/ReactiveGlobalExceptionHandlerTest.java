@@ -0,0 +1,108 @@
+package com.kata.romannumbers.infrastructure.input.reactive.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import com.kata.romannumbers.infrastructure.input.reactive.ArabicToRomanNumberReactiveGetAdapter;
+import com.kata.romannumbers.infrastructure.input.rest.PrecomputedConversionResponses;
+import com.kata.romannumbers.infrastructure.input.rest.ResponseEncoder;
+import com.kata.romannumbers.infrastructure.input.rest.exception.PrecomputedErrorResponses;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
+import com.kata.romannumbers.infrastructure.metrics.ConversionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.ServerWebInputException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the advice through a WebFlux adapter bound to a standalone {@link WebTestClient}, with a converter stub so
+ * that unexpected failures can be provoked.
+ */
+@DisplayName("Reactive Global Exception Handler Test")
+public class ReactiveGlobalExceptionHandlerTest {
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/arabic-to-roman";
+
+    private SimpleMeterRegistry registry;
+    private ReactiveGlobalExceptionHandler handler;
+    private ArabicToRomanNumberConverter converter;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ConversionMetrics conversionMetrics = new ConversionMetrics(registry);
+        ResponseEncoder encoder = new ResponseEncoder(new ObjectMapper());
+        handler = new ReactiveGlobalExceptionHandler(conversionMetrics);
+        converter = mock(ArabicToRomanNumberConverter.class);
+        webTestClient = WebTestClient.bindToController(new ArabicToRomanNumberReactiveGetAdapter(converter,
+                        new PrecomputedErrorResponses(encoder, conversionMetrics),
+                        new PrecomputedConversionResponses(encoder)))
+                .controllerAdvice(handler)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer a missing parameter with 400")
+    void shouldHandleMissingParameter() {
+        webTestClient.get().uri(URL_BASE).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Missing Request Parameter")
+                .jsonPath("$.message").value(containsString("number"));
+
+        assertThat(errors(ConversionMetrics.MISSING_PARAMETER)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer a parameter of the wrong type with 400")
+    void shouldHandleTypeMismatch() {
+        webTestClient.get().uri(URL_BASE + "?number=abc").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Type mismatch error")
+                .jsonPath("$.message").isEqualTo("Invalid parameter type: 'abc' cannot be converted to Integer");
+
+        assertThat(errors(ConversionMetrics.TYPE_MISMATCH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer an unexpected failure with 500 without leaking its message")
+    void shouldHandleUnexpectedException() {
+        when(converter.tryPerform(anyInt())).thenThrow(new IllegalStateException("converter is broken"));
+
+        webTestClient.get().uri(URL_BASE + "?number=42").exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Internal server error")
+                .jsonPath("$.message").isEqualTo("An unexpected error occurred");
+
+        assertThat(errors(ConversionMetrics.INTERNAL_ERROR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer other input errors with 400 and their reason")
+    void shouldHandleOtherInputErrors() {
+        // The GET adapters take no body, so a decoding failure cannot be provoked over HTTP
+        ResponseEntity<ErrorResponse> response = handler.handleServerWebInputException(
+                new ServerWebInputException("Failed to read HTTP message", null, new DecodingException("bad JSON")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(new ErrorResponse("Invalid Request", "Failed to read HTTP message"));
+        assertThat(errors(ConversionMetrics.INVALID_REQUEST)).isEqualTo(1);
+    }
+
+    private double errors(String type) {
+        return registry.get("roman.numbers.errors").tag("type", type).counter().count();
+    }
+}
@@ -0,0 +1,108 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Arabic to Roman Numbers Batch Controller Adapter Test")
+public class ArabicToRomanNumberBatchPostAdapterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/arabic-to-roman/batch";
+
+    private String performBatch(String body, MediaType contentType) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(post(URL_BASE)
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    @DisplayName("Should convert a JSON array of Arabic numbers into NDJSON lines")
+    void shouldConvertJsonArray() throws Exception {
+        String response = performBatch("[1, 42, 3999]", MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"arabic\":1,\"roman\":\"I\"}",
+                "{\"arabic\":42,\"roman\":\"XLII\"}",
+                "{\"arabic\":3999,\"roman\":\"MMMCMXCIX\"}");
+    }
+
+    @Test
+    @DisplayName("Should convert NDJSON input")
+    void shouldConvertNdjson() throws Exception {
+        String response = performBatch("4\n9\n", MediaType.APPLICATION_NDJSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"arabic\":4,\"roman\":\"IV\"}",
+                "{\"arabic\":9,\"roman\":\"IX\"}");
+    }
+
+    @Test
+    @DisplayName("Should report per-item errors without failing the batch")
+    void shouldReportPerItemErrors() throws Exception {
+        String response = performBatch("[0, 10, \"abc\", 4000, 1.5]", MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"input\":\"0\",\"error\":\"Invalid Arabic Number\",\"message\":\"Number must be between 1 and 3999\"}",
+                "{\"arabic\":10,\"roman\":\"X\"}",
+                "{\"input\":\"abc\",\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: 'abc' cannot be converted to Integer\"}",
+                "{\"input\":\"4000\",\"error\":\"Invalid Arabic Number\",\"message\":\"Number must be between 1 and 3999\"}",
+                "{\"input\":\"1.5\",\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: '1.5' cannot be converted to Integer\"}");
+    }
+
+    @Test
+    @DisplayName("Should stop with an error line when the body is malformed")
+    void shouldStopWithErrorLineOnMalformedBody() throws Exception {
+        String response = performBatch("[1, 2, }", MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).hasSize(3);
+        assertThat(response.lines().toList().get(2)).contains("\"error\":\"Malformed Request Body\"");
+    }
+
+    @Test
+    @DisplayName("Should convert every valid Arabic number in a single batch")
+    void shouldConvertLargeBatch() throws Exception {
+        String body = IntStream.rangeClosed(1, 3999)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", "[", "]"));
+
+        String response = performBatch(body, MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).hasSize(3999);
+        assertThat(response.lines()).noneMatch(line -> line.contains("error"));
+    }
+
+    @Test
+    @DisplayName("Should return an empty body for an empty batch")
+    void shouldReturnEmptyBodyForEmptyBatch() throws Exception {
+        assertThat(performBatch("[]", MediaType.APPLICATION_JSON)).isEmpty();
+    }
+}
@@ -1,19 +1,31 @@
 package com.kata.romannumbers.infrastructure.input.rest;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionFailure;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.ConversionReply;
+import com.kata.romannumbers.infrastructure.input.grpc.proto.FailureReason;
+import com.kata.romannumbers.infrastructure.input.rest.model.ArabicToRomanNumberResponse;
+import com.kata.romannumbers.infrastructure.input.rest.model.ErrorResponse;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -111,4 +123,140 @@ public class ArabicToRomanNumberGetAdapterTest {
         mockMvc.perform(get(URL_BASE))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Should serve a compact body with a strong ETag and immutable caching")
+    void shouldServeCacheableCompactBody() throws Exception {
+        mockMvc.perform(get(URL_BASE)
+                        .param("number", "42"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"arabic\":42,\"roman\":\"XLII\"}"))
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]+\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        String etag = mockMvc.perform(get(URL_BASE)
+                        .param("number", "42"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL_BASE)
+                        .param("number", "42")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should not mark error responses as cacheable")
+    void shouldNotCacheErrorResponses() throws Exception {
+        mockMvc.perform(get(URL_BASE)
+                        .param("number", "4000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Nested
+    @DisplayName("Content negotiation")
+    class ContentNegotiation {
+
+        @Test
+        @DisplayName("Should keep JSON as the default for any media type")
+        void shouldDefaultToJson() throws Exception {
+            mockMvc.perform(get(URL_BASE)
+                            .param("number", "42")
+                            .header(HttpHeaders.ACCEPT, "*/*"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                    .andExpect(content().string("{\"arabic\":42,\"roman\":\"XLII\"}"));
+        }
+
+        @Test
+        @DisplayName("Should encode the conversion as CBOR")
+        void shouldEncodeCbor() throws Exception {
+            byte[] body = mockMvc.perform(get(URL_BASE)
+                            .param("number", "42")
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(new CBORMapper().readValue(body, ArabicToRomanNumberResponse.class))
+                    .isEqualTo(new ArabicToRomanNumberResponse(42, "XLII"));
+        }
+
+        @Test
+        @DisplayName("Should encode the conversion as Smile")
+        void shouldEncodeSmile() throws Exception {
+            byte[] body = mockMvc.perform(get(URL_BASE)
+                            .param("number", "3999")
+                            .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(new SmileMapper().readValue(body, ArabicToRomanNumberResponse.class))
+                    .isEqualTo(new ArabicToRomanNumberResponse(3999, "MMMCMXCIX"));
+        }
+
+        @Test
+        @DisplayName("Should encode the conversion and its errors as a protobuf ConversionReply")
+        void shouldEncodeProtobuf() throws Exception {
+            byte[] body = mockMvc.perform(get(URL_BASE)
+                            .param("number", "42")
+                            .header(HttpHeaders.ACCEPT, "application/x-protobuf"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-protobuf"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            ConversionReply reply = ConversionReply.parseFrom(body);
+            assertThat(reply.getArabic()).isEqualTo(42);
+            assertThat(reply.getRoman()).isEqualTo("XLII");
+
+            byte[] errorBody = mockMvc.perform(get(URL_BASE)
+                            .param("number", "4000")
+                            .header(HttpHeaders.ACCEPT, "application/x-protobuf"))
+                    .andExpect(status().isBadRequest())
+                    .andReturn().getResponse().getContentAsByteArray();
+            ConversionFailure failure = ConversionReply.parseFrom(errorBody).getFailure();
+            assertThat(failure.getReason()).isEqualTo(FailureReason.ARABIC_OUT_OF_RANGE);
+            assertThat(failure.getError()).isEqualTo("Invalid Arabic Number");
+        }
+
+        @Test
+        @DisplayName("Should encode request errors from the exception handler in the negotiated format")
+        void shouldEncodeHandlerErrors() throws Exception {
+            byte[] cbor = mockMvc.perform(get(URL_BASE)
+                            .param("number", "abc")
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertThat(new CBORMapper().readValue(cbor, ErrorResponse.class).error()).isEqualTo("Type mismatch error");
+
+            byte[] protobuf = mockMvc.perform(get(URL_BASE)
+                            .header(HttpHeaders.ACCEPT, "application/x-protobuf"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-protobuf"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            ConversionFailure failure = ConversionReply.parseFrom(protobuf).getFailure();
+            assertThat(failure.getReason()).isEqualTo(FailureReason.FAILURE_REASON_UNSPECIFIED);
+            assertThat(failure.getError()).isEqualTo("Missing Request Parameter");
+        }
+
+        @Test
+        @DisplayName("Should give each encoding its own ETag")
+        void shouldUseDistinctEtagsPerEncoding() throws Exception {
+            String json = mockMvc.perform(get(URL_BASE).param("number", "42"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String cbor = mockMvc.perform(get(URL_BASE).param("number", "42").accept(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            assertThat(cbor).isNotEqualTo(json);
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Response Format Negotiation Test")
+class ResponseFormatTest {
+
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "''|JSON",
+            "*/*|JSON",
+            "application/json|JSON",
+            "application/cbor|CBOR",
+            "application/x-jackson-smile|SMILE",
+            "application/x-protobuf|PROTOBUF",
+            "application/json, application/cbor|JSON",
+            "application/json;q=0.9, application/cbor|CBOR",
+            "application/*;q=0.5, application/x-protobuf|PROTOBUF",
+            "*/*, application/json;q=0|CBOR",
+            "application/cbor;q=0, application/*|JSON",
+            "text/html|JSON",
+            "not a media type|JSON"
+    })
+    @DisplayName("Should select the preferred supported encoding")
+    void shouldNegotiate(String accept, ResponseFormat expected) {
+        assertThat(ResponseFormat.negotiate(accept)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,104 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Roman to Arabic Numbers Aggregation Controller Adapter Test")
+public class RomanToArabicNumberAggregationPostAdapterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/roman-to-arabic/aggregate";
+
+    @Test
+    @DisplayName("Should aggregate a JSON array of Roman numbers")
+    void shouldAggregateJsonArray() throws Exception {
+        mockMvc.perform(post(URL_BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"I\", \"xlii\", \"C\", \"IIII\", 42, {\"roman\": \"V\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.invalid").value(3))
+                .andExpect(jsonPath("$.sum").value(143))
+                .andExpect(jsonPath("$.min").value(1))
+                .andExpect(jsonPath("$.max").value(100))
+                .andExpect(jsonPath("$.romanSum").doesNotExist())
+                .andExpect(jsonPath("$.histogram", hasSize(1)))
+                .andExpect(jsonPath("$.histogram[0].from").value(1))
+                .andExpect(jsonPath("$.histogram[0].to").value(100))
+                .andExpect(jsonPath("$.histogram[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("Should aggregate NDJSON input with a custom bucket size and roman rendering")
+    void shouldAggregateNdjsonWithRomanRendering() throws Exception {
+        String body = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> "\"" + "X".repeat(Math.min(3, i % 4)) + "I\"")
+                .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post(URL_BASE)
+                        .param("bucketSize", "10")
+                        .param("roman", "true")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(20))
+                .andExpect(jsonPath("$.sum").value(320))
+                .andExpect(jsonPath("$.romanSum").value("CCCXX"))
+                .andExpect(jsonPath("$.romanMin").value("I"))
+                .andExpect(jsonPath("$.romanMax").value("XXXI"))
+                .andExpect(jsonPath("$.histogram", hasSize(4)))
+                .andExpect(jsonPath("$.histogram[1].romanFrom").value("XI"))
+                .andExpect(jsonPath("$.histogram[1].romanTo").value("XX"));
+    }
+
+    @Test
+    @DisplayName("Should omit min and max when no Roman number is valid")
+    void shouldOmitMinAndMaxWithoutValidNumbers() throws Exception {
+        mockMvc.perform(post(URL_BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"ABC\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(0))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.min").doesNotExist())
+                .andExpect(jsonPath("$.histogram", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid bucket size")
+    void shouldRejectInvalidBucketSize() throws Exception {
+        mockMvc.perform(post(URL_BASE)
+                        .param("bucketSize", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"I\"]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Request Parameter"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed body")
+    void shouldRejectMalformedBody() throws Exception {
+        mockMvc.perform(post(URL_BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"I\", "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Malformed Request Body"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.kata.romannumbers.infrastructure.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Roman to Arabic Numbers Batch Controller Adapter Test")
+public class RomanToArabicNumberBatchPostAdapterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String URL_BASE = "/api/v1/roman-numbers/roman-to-arabic/batch";
+
+    private String performBatch(String body, MediaType contentType) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(post(URL_BASE)
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    @DisplayName("Should convert a JSON array of Roman numbers into NDJSON lines")
+    void shouldConvertJsonArray() throws Exception {
+        String response = performBatch("[\"I\", \"xlii\", \"MMMCMXCIX\"]", MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"roman\":\"I\",\"arabic\":1}",
+                "{\"roman\":\"XLII\",\"arabic\":42}",
+                "{\"roman\":\"MMMCMXCIX\",\"arabic\":3999}");
+    }
+
+    @Test
+    @DisplayName("Should convert NDJSON input")
+    void shouldConvertNdjson() throws Exception {
+        String response = performBatch("\"IV\"\n\"IX\"\n", MediaType.APPLICATION_NDJSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"roman\":\"IV\",\"arabic\":4}",
+                "{\"roman\":\"IX\",\"arabic\":9}");
+    }
+
+    @Test
+    @DisplayName("Should report per-item errors without failing the batch")
+    void shouldReportPerItemErrors() throws Exception {
+        String response = performBatch("[\"IIII\", \"X\", 42, \"\"]", MediaType.APPLICATION_JSON);
+
+        assertThat(response.lines()).containsExactly(
+                "{\"input\":\"IIII\",\"error\":\"Invalid Roman Number\",\"message\":\"Invalid roman number format\"}",
+                "{\"roman\":\"X\",\"arabic\":10}",
+                "{\"input\":\"42\",\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: '42' cannot be converted to String\"}",
+                "{\"input\":\"\",\"error\":\"Invalid Roman Number\",\"message\":\"Roman number cannot be null or empty\"}");
+    }
+
+    @Test
+    @DisplayName("Should stop with an error line when the body is malformed")
+    void shouldStopWithErrorLineOnMalformedBody() throws Exception {
+        String response = performBatch("\"I\"\n{", MediaType.APPLICATION_NDJSON);
+
+        assertThat(response.lines()).hasSize(2);
+        assertThat(response.lines().toList().get(1)).contains("\"error\":\"Malformed Request Body\"");
+    }
+}
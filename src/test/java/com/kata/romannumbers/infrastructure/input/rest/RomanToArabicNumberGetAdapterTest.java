@@ -7,13 +7,16 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -131,4 +134,40 @@ public class RomanToArabicNumberGetAdapterTest {
                     .andExpect(jsonPath("$.error").value("Invalid Roman Number"));
         }
     }
+
+    @Test
+    @DisplayName("Should serve a compact body with a strong ETag and immutable caching")
+    void shouldServeCacheableCompactBody() throws Exception {
+        mockMvc.perform(get(URL_BASE)
+                        .param("roman", "XLII"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"roman\":\"XLII\",\"arabic\":42}"))
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]+\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        String etag = mockMvc.perform(get(URL_BASE)
+                        .param("roman", "XLII"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL_BASE)
+                        .param("roman", "XLII")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should not mark error responses as cacheable")
+    void shouldNotCacheErrorResponses() throws Exception {
+        mockMvc.perform(get(URL_BASE)
+                        .param("roman", "IIII"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
 }
@@ -0,0 +1,166 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "roman-numbers.admission.rate-limit.per-second=1",
+        "roman-numbers.admission.rate-limit.burst=2"
+})
+@AutoConfigureMockMvc
+@DisplayName("Admission Control Filter Test")
+public class AdmissionControlFilterTest {
+
+    private static final String ARABIC_TO_ROMAN_URL = "/api/v1/roman-numbers/arabic-to-roman";
+    private static final String ROMAN_TO_ARABIC_URL = "/api/v1/roman-numbers/roman-to-arabic";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("Should return 429 once a client address exceeds its rate, without affecting other addresses")
+    void shouldRateLimitPerClient() throws Exception {
+        mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", "1").with(remoteAddress("10.0.0.1")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(ROMAN_TO_ARABIC_URL).param("roman", "I").with(remoteAddress("10.0.0.1")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", "1").with(remoteAddress("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").value("Request rate limit exceeded, retry later"));
+
+        mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", "1").with(remoteAddress("10.0.0.2")))
+                .andExpect(status().isOk());
+        assertThat(registry.get("roman.numbers.admission.rejected").tag("reason", "rate_limited").counter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore the client header from untrusted peers")
+    void shouldIgnoreClientHeaderByDefault() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", "1")
+                            .header("X-Client-Id", "spoofed-" + i).with(remoteAddress("10.0.0.3")))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get(ARABIC_TO_ROMAN_URL).param("number", "1")
+                        .header("X-Client-Id", "spoofed-2").with(remoteAddress("10.0.0.3")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("Should key on the client header of requests from a trusted proxy")
+    void shouldHonourClientHeaderBehindTrustedProxy() throws Exception {
+        AdmissionControlFilter filter = rateLimitingFilter(false, Set.of("10.0.0.100"));
+
+        assertThat(filter(filter, "10.0.0.100", "alice")).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.100", "alice")).isEqualTo(429);
+        assertThat(filter(filter, "10.0.0.100", "bob")).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.4", "carol")).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.4", "dave")).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should key on the client header of any peer when explicitly enabled")
+    void shouldHonourClientHeaderWhenTrusted() throws Exception {
+        AdmissionControlFilter filter = rateLimitingFilter(true, Set.of());
+
+        assertThat(filter(filter, "10.0.0.5", "alice")).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.5", "bob")).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.5", null)).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.5", null)).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should leave the batch endpoints out of admission control")
+    void shouldNotLimitBatchEndpoints() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post(ARABIC_TO_ROMAN_URL + "/batch")
+                            .header("X-Client-Id", "batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[1, 2, 3]"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish the limiter state as gauges")
+    void shouldPublishLimiterGauges() {
+        assertThat(registry.get("roman.numbers.admission.concurrency.limit").gauge().value()).isEqualTo(100);
+        assertThat(registry.get("roman.numbers.admission.concurrency.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the concurrency limit is reached")
+    void shouldRejectWhenOverloaded() throws Exception {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(new AdmissionProperties.Concurrency(
+                1, 1, 1, Duration.ofMillis(100), 0.9));
+        AdmissionControlFilter filter = new AdmissionControlFilter("X-Client-Id", false, Set.of(),
+                new StripedTokenBuckets(100, 100, 1, System::nanoTime), limiter,
+                "{}".getBytes(), "{\"error\":\"Service Unavailable\"}".getBytes(),
+                registry.counter("test.rate_limited"), registry.counter("test.overloaded"));
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", ARABIC_TO_ROMAN_URL), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).isEqualTo("{\"error\":\"Service Unavailable\"}");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    /**
+     * One token per client that never refills, so a second request with the same key is rejected.
+     */
+    private AdmissionControlFilter rateLimitingFilter(boolean trustClientHeader, Set<String> trustedProxies) {
+        return new AdmissionControlFilter("X-Client-Id", trustClientHeader, trustedProxies,
+                new StripedTokenBuckets(1, 1, 64, () -> 0L),
+                new AimdConcurrencyLimiter(new AdmissionProperties.Concurrency(10, 10, 10, Duration.ofSeconds(1), 0.9)),
+                "{}".getBytes(), "{}".getBytes(),
+                registry.counter("test.rate_limited"), registry.counter("test.overloaded"));
+    }
+
+    private static int filter(AdmissionControlFilter filter, String remoteAddress, String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ARABIC_TO_ROMAN_URL);
+        request.setRemoteAddr(remoteAddress);
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AIMD Concurrency Limiter Test")
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit until one is released")
+    void shouldRejectBeyondLimit() {
+        AimdConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on slow or failed responses")
+    void shouldDecreaseOnSlowOrFailedResponses() {
+        AimdConcurrencyLimiter limiter = limiter(100, 10, 1000);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(50);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(25);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should grow additively only while the limit is in use")
+    void shouldIncreaseWhenUtilized() {
+        AimdConcurrencyLimiter limiter = limiter(4, 1, 5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent settings")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> limiter(10, 20, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyLimiter(new AdmissionProperties.Concurrency(
+                10, 1, 100, Duration.ofMillis(100), 1.5))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AimdConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AimdConcurrencyLimiter(new AdmissionProperties.Concurrency(
+                initial, min, max, Duration.ofMillis(100), 0.5));
+    }
+}
@@ -0,0 +1,112 @@
+package com.kata.romannumbers.infrastructure.input.rest.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Striped Token Buckets Test")
+class StripedTokenBucketsTest {
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    @DisplayName("Should admit a full burst and then reject")
+    void shouldAdmitBurstThenReject() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(10, 3, 16, clock::get);
+
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refill one token per emission interval")
+    void shouldRefillAtTheConfiguredRate() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(10, 1, 16, clock::get);
+
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isFalse();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertThat(buckets.tryAcquire("client")).isFalse();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not refill beyond the burst after a long idle period")
+    void shouldCapTokensAtBurst() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(10, 2, 16, clock::get);
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isTrue();
+        assertThat(buckets.tryAcquire("client")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets for keys on different stripes")
+    void shouldIsolateKeysOnDifferentStripes() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1, 1024, clock::get);
+        assertThat(buckets.tryAcquire("client-0")).isTrue();
+        assertThat(buckets.tryAcquire("client-0")).isFalse();
+
+        int admitted = 0;
+        for (int i = 1; i <= 100; i++) {
+            if (buckets.tryAcquire("client-" + i)) {
+                admitted++;
+            }
+        }
+        assertThat(admitted).isGreaterThan(90);
+    }
+
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void shouldRoundStripesToPowerOfTwo() {
+        assertThat(new StripedTokenBuckets(1, 1, 1000, clock::get).stripes()).isEqualTo(1024);
+        assertThat(new StripedTokenBuckets(1, 1, 1024, clock::get).stripes()).isEqualTo(1024);
+        assertThat(new StripedTokenBuckets(1, 1, 1, clock::get).stripes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should admit exactly the burst under concurrent access to one key")
+    void shouldAdmitExactlyTheBurstConcurrently() throws InterruptedException {
+        int burst = 1000;
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, burst, 16, clock::get);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < burst; i++) {
+                    if (buckets.tryAcquire("client")) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted.get()).isEqualTo(burst);
+    }
+}
@@ -0,0 +1,314 @@
+package com.kata.romannumbers.infrastructure.input.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kata.romannumbers.application.ArabicToRomanNumberConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Conversion WebSocket Handler Test")
+public class ConversionWebSocketHandlerTest {
+
+    private static final String PATH = "/ws/v1/roman-numbers";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConversionWebSocketHandler handler;
+
+    @Autowired
+    private ArabicToRomanNumberConverter arabicToRomanConverter;
+
+    @Nested
+    @DisplayName("Messages")
+    class Messages {
+
+        static Stream<Arguments> exchanges() {
+            return Stream.of(
+                    Arguments.of("{\"id\":1,\"arabic\":1994}",
+                            "{\"id\":1,\"arabic\":1994,\"roman\":\"MCMXCIV\"}"),
+                    Arguments.of("{\"roman\":\"mcmxciv\",\"id\":\"a\\\"b\"}",
+                            "{\"id\":\"a\\\"b\",\"roman\":\"MCMXCIV\",\"arabic\":1994}"),
+                    Arguments.of("{\"arabic\":3999}",
+                            "{\"arabic\":3999,\"roman\":\"MMMCMXCIX\"}"),
+                    Arguments.of("{\"id\":2,\"arabic\":4000}",
+                            "{\"id\":2,\"error\":\"Invalid Arabic Number\",\"message\":\"Number must be between 1 and 3999\"}"),
+                    Arguments.of("{\"id\":3,\"roman\":\"IIII\"}",
+                            "{\"id\":3,\"error\":\"Invalid Roman Number\",\"message\":\"Invalid roman number format\"}"),
+                    Arguments.of("{\"id\":4,\"roman\":\"\"}",
+                            "{\"id\":4,\"error\":\"Invalid Roman Number\",\"message\":\"Roman number cannot be null or empty\"}"),
+                    Arguments.of("{\"id\":5,\"arabic\":\"abc\"}",
+                            "{\"id\":5,\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: 'abc' cannot be converted to Integer\"}"),
+                    Arguments.of("{\"id\":6,\"arabic\":99999999999}",
+                            "{\"id\":6,\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: '99999999999' cannot be converted to Integer\"}"),
+                    Arguments.of("{\"id\":7,\"roman\":12}",
+                            "{\"id\":7,\"error\":\"Type mismatch error\",\"message\":\"Invalid parameter type: '12' cannot be converted to String\"}"),
+                    Arguments.of("{\"id\":8,\"extra\":{\"arabic\":1}}",
+                            "{\"id\":8,\"error\":\"Missing Request Parameter\",\"message\":\"Required field 'arabic' or 'roman' is not present\"}"),
+                    Arguments.of("{\"id\":9,\"arabic\":1,\"roman\":\"I\"}",
+                            "{\"id\":9,\"error\":\"Invalid Request Parameter\",\"message\":\"Only one of 'arabic' or 'roman' may be present\"}"),
+                    Arguments.of("{\"id\":[10],\"arabic\":1}",
+                            "{\"error\":\"Invalid Request Parameter\",\"message\":\"Field 'id' must be a string or an integer\"}"),
+                    Arguments.of("[1994]",
+                            "{\"error\":\"Malformed Request Body\",\"message\":\"Expected a JSON object\"}"),
+                    Arguments.of("{\"id\":11,\"arabic\":1}{}",
+                            "{\"id\":11,\"error\":\"Malformed Request Body\",\"message\":\"Unexpected content after the JSON object\"}"));
+        }
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @MethodSource("exchanges")
+        @DisplayName("Should reply to each request with the correlated conversion or error")
+        void shouldReplyToRequest(String request, String expectedReply) throws Exception {
+            try (Session session = open()) {
+                session.send(request);
+
+                assertThat(session.next()).isEqualTo(expectedReply);
+            }
+        }
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @ValueSource(strings = {"1", "1994", "3999", "0", "4000", "-7"})
+        @DisplayName("Should reply to arabic numbers with the body of the GET endpoint")
+        void shouldMatchArabicToRomanGetEndpoint(String number) throws Exception {
+            try (Session session = open()) {
+                session.send("{\"arabic\":" + number + "}");
+
+                assertThat(session.next()).isEqualTo(get("/api/v1/roman-numbers/arabic-to-roman?number=" + number));
+            }
+        }
+
+        @ParameterizedTest(name = "[{index}] {0}")
+        @ValueSource(strings = {"I", "mcmxciv", "MMMCMXCIX", "IIII", "ABC", "VX"})
+        @DisplayName("Should reply to roman numbers with the body of the GET endpoint")
+        void shouldMatchRomanToArabicGetEndpoint(String roman) throws Exception {
+            try (Session session = open()) {
+                session.send("{\"roman\":\"" + roman + "\"}");
+
+                assertThat(session.next()).isEqualTo(get("/api/v1/roman-numbers/roman-to-arabic?roman=" + roman));
+            }
+        }
+
+        @Test
+        @DisplayName("Should report malformed JSON and keep the session open")
+        void shouldReportMalformedJsonAndKeepSession() throws Exception {
+            try (Session session = open()) {
+                session.send("{\"id\":1,\"arabic\":");
+                session.send("{\"id\":2,\"arabic\":10}");
+
+                JsonNode malformed = objectMapper.readTree(session.next());
+                assertThat(malformed.get("id").asInt()).isEqualTo(1);
+                assertThat(malformed.get("error").asText()).isEqualTo("Malformed Request Body");
+                assertThat(session.next()).isEqualTo("{\"id\":2,\"arabic\":10,\"roman\":\"X\"}");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Sessions")
+    class Sessions {
+
+        @Test
+        @DisplayName("Should reply to pipelined requests in order")
+        void shouldReplyInOrder() throws Exception {
+            try (Session session = open()) {
+                for (int number = 1; number <= 500; number++) {
+                    session.send("{\"id\":" + number + ",\"arabic\":" + number + "}");
+                }
+
+                for (int number = 1; number <= 500; number++) {
+                    assertThat(objectMapper.readTree(session.next()).get("id").asInt()).isEqualTo(number);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should close the session when a message exceeds the size limit")
+        void shouldCloseOnOversizedMessage() throws Exception {
+            try (Session session = open()) {
+                session.send("{\"roman\":\"" + "I".repeat(2048) + "\"}");
+
+                assertThat(session.closeStatus.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(1009);
+            }
+        }
+
+        @Test
+        @DisplayName("Should serve many simultaneous sessions without mixing up replies")
+        void shouldServeConcurrentSessions() throws Exception {
+            int sessions = 64;
+            int messagesPerSession = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(sessions);
+            CountDownLatch allOpen = new CountDownLatch(sessions);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int s = 0; s < sessions; s++) {
+                    int sessionIndex = s;
+                    results.add(executor.submit(() -> {
+                        try (Session session = open()) {
+                            allOpen.countDown();
+                            start.await();
+                            return exchange(session, sessionIndex, messagesPerSession);
+                        }
+                    }));
+                }
+
+                assertThat(allOpen.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+                assertThat(handler.openSessions()).isGreaterThanOrEqualTo(sessions);
+                start.countDown();
+
+                for (Future<Integer> result : results) {
+                    assertThat(result.get(TIMEOUT_SECONDS * 3, TimeUnit.SECONDS)).isEqualTo(messagesPerSession);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            awaitNoOpenSessions();
+        }
+
+        /**
+         * Sends all the requests of a session without waiting, mixing directions and invalid input, then checks
+         * every reply against its request.
+         *
+         * @return the number of replies that matched
+         */
+        private int exchange(Session session, int sessionIndex, int messages) throws Exception {
+            for (int i = 0; i < messages; i++) {
+                int number = 1 + (sessionIndex * messages + i) % 3999;
+                String id = "\"s" + sessionIndex + "-" + i + "\"";
+                session.send(switch (i % 3) {
+                    case 0 -> "{\"id\":" + id + ",\"arabic\":" + number + "}";
+                    case 1 -> "{\"id\":" + id + ",\"roman\":\"" + arabicToRomanConverter.perform(number) + "\"}";
+                    default -> "{\"id\":" + id + ",\"arabic\":" + (4000 + number) + "}";
+                });
+            }
+
+            int matched = 0;
+            for (int i = 0; i < messages; i++) {
+                int number = 1 + (sessionIndex * messages + i) % 3999;
+                JsonNode reply = objectMapper.readTree(session.next());
+                assertThat(reply.get("id").asText()).isEqualTo("s" + sessionIndex + "-" + i);
+                if (i % 3 == 2) {
+                    assertThat(reply.get("error").asText()).isEqualTo("Invalid Arabic Number");
+                } else {
+                    assertThat(reply.get("arabic").asInt()).isEqualTo(number);
+                    assertThat(reply.get("roman").asText()).isEqualTo(arabicToRomanConverter.perform(number));
+                }
+                matched++;
+            }
+            return matched;
+        }
+
+        private void awaitNoOpenSessions() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (handler.openSessions() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(handler.openSessions()).isZero();
+        }
+    }
+
+    private Session open() throws Exception {
+        Session session = new Session();
+        session.socket = client.newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + PATH), session)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return session;
+    }
+
+    private String get(String pathAndQuery) throws Exception {
+        int query = pathAndQuery.indexOf('=') + 1;
+        String encoded = pathAndQuery.substring(0, query)
+                + URLEncoder.encode(pathAndQuery.substring(query), StandardCharsets.UTF_8);
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + encoded)).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    /**
+     * Client side of a session: requests are sent one after another and complete replies are queued in arrival
+     * order.
+     */
+    private static final class Session implements WebSocket.Listener, AutoCloseable {
+
+        private final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Integer> closeStatus = new CompletableFuture<>();
+        private final StringBuilder partial = new StringBuilder();
+        private WebSocket socket;
+
+        void send(String message) throws Exception {
+            socket.sendText(message, true).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        String next() throws InterruptedException {
+            String reply = replies.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(reply).as("reply").isNotNull();
+            return reply;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                replies.add(partial.toString());
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            closeStatus.complete(statusCode);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            closeStatus.completeExceptionally(error);
+        }
+
+        @Override
+        public void close() {
+            if (!socket.isOutputClosed()) {
+                // The server may already be closing the session; nothing is left to check either way
+                socket.sendClose(WebSocket.NORMAL_CLOSURE, "").handle((ignored, ex) -> null).join();
+            }
+            socket.abort();
+        }
+    }
+}
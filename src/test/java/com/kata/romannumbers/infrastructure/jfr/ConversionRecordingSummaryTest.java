@@ -0,0 +1,177 @@
+package com.kata.romannumbers.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Conversion Recording Summary Test")
+public class ConversionRecordingSummaryTest {
+
+    private static final String ARABIC_TO_ROMAN = "/api/v1/roman-numbers/arabic-to-roman";
+    private static final String ROMAN_TO_ARABIC = "/api/v1/roman-numbers/roman-to-arabic";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    private Path directory;
+
+    private Path recordRequests() throws Exception {
+        Configuration settings;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("jfr/roman-numbers.jfc").getInputStream(), StandardCharsets.UTF_8)) {
+            settings = Configuration.create(reader);
+        }
+        Path file = directory.resolve("conversions.jfr");
+        try (Recording recording = new Recording(settings)) {
+            recording.start();
+            for (int number = 1; number <= 20; number++) {
+                mockMvc.perform(get(ARABIC_TO_ROMAN).param("number", String.valueOf(number)))
+                        .andExpect(status().isOk());
+            }
+            mockMvc.perform(get(ARABIC_TO_ROMAN).param("number", "4000")).andExpect(status().isBadRequest());
+            mockMvc.perform(get(ROMAN_TO_ARABIC).param("roman", "MCMXCIV")).andExpect(status().isOk());
+            mockMvc.perform(get(ROMAN_TO_ARABIC).param("roman", "IIII")).andExpect(status().isBadRequest());
+            MvcResult batch = mockMvc.perform(post(ARABIC_TO_ROMAN + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[1, 2, 4000]"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(batch)).andExpect(status().isOk());
+            mockMvc.perform(post(ROMAN_TO_ARABIC + "/aggregate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"X\", \"V\"]"))
+                    .andExpect(status().isOk());
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Summarizing")
+    class SummarizingTests {
+
+        @Test
+        @DisplayName("Should group use case and REST events by endpoint, direction and outcome")
+        void shouldGroupEventsByOperation() throws Exception {
+            Map<String, LatencyHistogram> operations = ConversionRecordingSummary.summarize(recordRequests());
+
+            assertThat(operations).containsOnlyKeys(
+                    "rest-aggregate roman-to-arabic success",
+                    "rest-batch arabic-to-roman INVALID_ITEMS",
+                    "rest arabic-to-roman success",
+                    "rest arabic-to-roman ARABIC_OUT_OF_RANGE",
+                    "rest roman-to-arabic success",
+                    "rest roman-to-arabic ROMAN_INVALID_FORMAT",
+                    "use-case arabic-to-roman success",
+                    "use-case arabic-to-roman ARABIC_OUT_OF_RANGE",
+                    "use-case roman-to-arabic success",
+                    "use-case roman-to-arabic ROMAN_INVALID_FORMAT");
+            assertThat(operations.get("rest arabic-to-roman success").count()).isEqualTo(20);
+            assertThat(operations.get("use-case arabic-to-roman success").count()).isEqualTo(22);
+            assertThat(operations.get("rest-batch arabic-to-roman INVALID_ITEMS").count()).isEqualTo(1);
+            assertThat(operations.get("rest roman-to-arabic ROMAN_INVALID_FORMAT").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should print a histogram per operation")
+        void shouldPrintHistograms() throws Exception {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            int exitCode = ConversionRecordingSummary.run(new String[]{recordRequests().toString()},
+                    new PrintStream(out, true, StandardCharsets.UTF_8), System.err);
+
+            String summary = out.toString(StandardCharsets.UTF_8);
+            assertThat(exitCode).isZero();
+            assertThat(summary).contains("rest arabic-to-roman success", "count 20", "p99", "#");
+        }
+    }
+
+    @Nested
+    @DisplayName("Latency histogram")
+    class LatencyHistogramTests {
+
+        @Test
+        @DisplayName("Should compute nearest-rank percentiles and power-of-two buckets")
+        void shouldComputePercentilesAndBuckets() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long nanos = 1; nanos <= 2000; nanos++) {
+                histogram.record(nanos);
+            }
+
+            assertThat(histogram.count()).isEqualTo(2000);
+            assertThat(histogram.min()).isEqualTo(1);
+            assertThat(histogram.percentile(50)).isEqualTo(1000);
+            assertThat(histogram.percentile(99)).isEqualTo(1980);
+            assertThat(histogram.max()).isEqualTo(2000);
+            assertThat(histogram.buckets()).hasSize(12).startsWith(0, 1, 2, 4, 8);
+        }
+
+        @Test
+        @DisplayName("Should format durations with a readable unit")
+        void shouldFormatDurations() {
+            assertThat(ConversionRecordingSummary.formatNanos(850)).isEqualTo("850 ns");
+            assertThat(ConversionRecordingSummary.formatNanos(12_345)).isEqualTo("12.3 us");
+            assertThat(ConversionRecordingSummary.formatNanos(2_500_000)).isEqualTo("2.5 ms");
+        }
+    }
+
+    @Nested
+    @DisplayName("Command line")
+    class CommandLineTests {
+
+        @Test
+        @DisplayName("Should print the usage when the recording is missing")
+        void shouldPrintUsage() {
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+            int exitCode = ConversionRecordingSummary.run(new String[0], System.out,
+                    new PrintStream(err, true, StandardCharsets.UTF_8));
+
+            assertThat(exitCode).isEqualTo(2);
+            assertThat(err.toString(StandardCharsets.UTF_8)).contains("Usage: jfr-summary");
+        }
+
+        @Test
+        @DisplayName("Should fail on a file that is not a recording")
+        void shouldFailOnInvalidRecording() throws Exception {
+            Path file = Files.writeString(directory.resolve("not-a-recording.jfr"), "journal");
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+            int exitCode = ConversionRecordingSummary.run(new String[]{file.toString()}, System.out,
+                    new PrintStream(err, true, StandardCharsets.UTF_8));
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(err.toString(StandardCharsets.UTF_8)).contains("Could not read the recording");
+        }
+    }
+}
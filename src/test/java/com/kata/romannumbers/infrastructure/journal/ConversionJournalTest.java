@@ -0,0 +1,218 @@
+package com.kata.romannumbers.infrastructure.journal;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.ConversionError;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Conversion Journal Test")
+public class ConversionJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    private ConversionJournal journal(DataSize segmentSize, int maxSegments) throws IOException {
+        return new ConversionJournal(new JournalProperties(true, directory, segmentSize, maxSegments, 1024),
+                new SimpleMeterRegistry());
+    }
+
+    private List<JournalEntry> readAll() throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        ConversionJournalReader.read(directory, entries::add);
+        return entries;
+    }
+
+    @Nested
+    @DisplayName("Recording")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should record successful and rejected conversions of both directions")
+        void shouldRecordConversions() throws Exception {
+            try (ConversionJournal journal = journal(DataSize.ofMegabytes(1), 2)) {
+                journal.arabicToRoman(1994, null);
+                journal.arabicToRoman(4000, ConversionError.ARABIC_OUT_OF_RANGE);
+                journal.romanToArabic("mmxxv", 2025, null);
+                journal.romanToArabic("IIII", 0, ConversionError.ROMAN_INVALID_FORMAT);
+                journal.romanToArabic("XLII".getBytes(StandardCharsets.US_ASCII), 0, 4, 42, null);
+            }
+
+            List<JournalEntry> entries = readAll();
+            assertThat(entries).extracting(JournalEntry::direction)
+                    .containsExactly("arabic-to-roman", "arabic-to-roman", "roman-to-arabic", "roman-to-arabic",
+                            "roman-to-arabic");
+            assertThat(entries).extracting(JournalEntry::arabic).containsExactly(1994, 4000, 2025, 0, 42);
+            assertThat(entries).extracting(JournalEntry::input).containsExactly("", "", "mmxxv", "IIII", "XLII");
+            assertThat(entries).extracting(JournalEntry::error)
+                    .containsExactly(null, ConversionError.ARABIC_OUT_OF_RANGE, null,
+                            ConversionError.ROMAN_INVALID_FORMAT, null);
+            assertThat(entries.get(0).timestamp()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should keep the first 16 characters and the original length of long inputs")
+        void shouldTruncateLongInputs() throws Exception {
+            String input = "MMMMMMMMMMMMMMMMMMMMMMMM";
+            try (ConversionJournal journal = journal(DataSize.ofMegabytes(1), 2)) {
+                journal.romanToArabic(input, 0, ConversionError.ROMAN_INVALID_FORMAT);
+            }
+
+            JournalEntry entry = readAll().get(0);
+            assertThat(entry.input()).isEqualTo(input.substring(0, 16));
+            assertThat(entry.inputLength()).isEqualTo(input.length());
+            assertThat(ConversionJournalReader.format(entry)).endsWith("roman-to-arabic MMMMMMMMMMMMMMMM... -> ROMAN_INVALID_FORMAT");
+        }
+
+        @Test
+        @DisplayName("Should record every entry from concurrent producers across rolled segments")
+        void shouldRecordConcurrentProducers() throws Exception {
+            int threads = 8;
+            int perThread = 2_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try (ConversionJournal journal = journal(DataSize.ofKilobytes(64), 100)) {
+                for (int thread = 0; thread < threads; thread++) {
+                    executor.submit(() -> IntStream.rangeClosed(1, perThread).forEach(number -> {
+                        // Back off while the ring is full so that no entry is dropped
+                        while (!journal.arabicToRoman(number, null)) {
+                            Thread.onSpinWait();
+                        }
+                    }));
+                }
+                executor.shutdown();
+                assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+            }
+
+            List<JournalEntry> entries = readAll();
+            assertThat(entries).hasSize(threads * perThread);
+            assertThat(entries).extracting(JournalEntry::arabic)
+                    .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, perThread)
+                            .flatMap(number -> IntStream.generate(() -> number).limit(threads))
+                            .boxed()
+                            .toList());
+            assertThat(MappedJournalWriter.segmentIndexes(directory)).hasSizeGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("Should delete the oldest segments beyond the configured count")
+        void shouldDeleteOldestSegments() throws Exception {
+            try (ConversionJournal journal = journal(DataSize.ofKilobytes(4), 3)) {
+                for (int number = 1; number <= 1000; number++) {
+                    journal.arabicToRoman(number, null);
+                    if (number % 100 == 0) {
+                        Thread.sleep(5);
+                    }
+                }
+            }
+
+            assertThat(MappedJournalWriter.segmentIndexes(directory)).hasSize(3);
+            assertThat(readAll()).last().extracting(JournalEntry::arabic).isEqualTo(1000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ring Buffer")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("Should drop and count entries while the ring is full")
+        void shouldDropWhenFull() {
+            JournalRingBuffer ring = new JournalRingBuffer(4);
+            List<Integer> written = new ArrayList<>();
+            JournalRingBuffer.Sink sink = (entries, offset, length) -> written.add(length / JournalFormat.ENTRY_SIZE);
+
+            for (int number = 1; number <= 4; number++) {
+                assertThat(ring.offer(1L, JournalFormat.ARABIC_TO_ROMAN, number, null, null)).isTrue();
+            }
+            assertThat(ring.offer(1L, JournalFormat.ARABIC_TO_ROMAN, 5, null, null)).isFalse();
+            assertThat(ring.dropped()).isEqualTo(1);
+
+            assertThat(ring.drain(sink, 3)).isEqualTo(3);
+            assertThat(ring.offer(1L, JournalFormat.ARABIC_TO_ROMAN, 6, null, null)).isTrue();
+            assertThat(ring.offer(1L, JournalFormat.ARABIC_TO_ROMAN, 7, null, null)).isTrue();
+            assertThat(ring.drain(sink, 10)).isEqualTo(3);
+
+            assertThat(written).containsExactly(3, 1, 2);
+            assertThat(ring.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject capacities that are not a power of two")
+        void shouldRejectInvalidCapacity() {
+            assertThatThrownBy(() -> new JournalRingBuffer(1000)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Journaled Converters")
+    class JournaledConverterTests {
+
+        @Test
+        @DisplayName("Should journal the outcome of every converter call")
+        void shouldJournalConverterCalls() throws Exception {
+            try (ConversionJournal journal = journal(DataSize.ofMegabytes(1), 2)) {
+                JournaledArabicToRomanNumberConverter arabicToRoman =
+                        new JournaledArabicToRomanNumberConverter(new ArabicToRomanNumberConverterUseCase(), journal);
+                JournaledRomanToArabicNumberConverter romanToArabic =
+                        new JournaledRomanToArabicNumberConverter(new RomanToArabicNumberConverterUseCase(), journal);
+
+                assertThat(arabicToRoman.perform(42)).isEqualTo("XLII");
+                assertThat(arabicToRoman.tryPerform(0).isValid()).isFalse();
+                assertThat(romanToArabic.decode("MCMXCIV")).isEqualTo(1994);
+                assertThatThrownBy(() -> romanToArabic.perform(""))
+                        .isInstanceOf(InvalidRomanNumberException.class);
+            }
+
+            assertThat(readAll()).extracting(ConversionJournalReader::format)
+                    .satisfiesExactly(
+                            line -> assertThat(line).endsWith("arabic-to-roman 42 -> XLII"),
+                            line -> assertThat(line).endsWith("arabic-to-roman 0 -> ARABIC_OUT_OF_RANGE"),
+                            line -> assertThat(line).endsWith("roman-to-arabic MCMXCIV -> 1994"),
+                            line -> assertThat(line).endsWith("roman-to-arabic  -> ROMAN_NULL_OR_EMPTY"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reader Tool")
+    class ReaderToolTests {
+
+        @Test
+        @DisplayName("Should print one line per entry and report unreadable input")
+        void shouldPrintEntries() throws Exception {
+            try (ConversionJournal journal = journal(DataSize.ofMegabytes(1), 2)) {
+                journal.arabicToRoman(3999, null);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+            assertThat(ConversionJournalReader.run(new String[]{directory.toString()}, new PrintStream(out), new PrintStream(err)))
+                    .isZero();
+            assertThat(out.toString()).contains("arabic-to-roman 3999 -> MMMCMXCIX");
+
+            assertThat(ConversionJournalReader.run(new String[]{"pom.xml"}, new PrintStream(out), new PrintStream(err)))
+                    .isEqualTo(1);
+            assertThat(ConversionJournalReader.run(new String[0], new PrintStream(out), new PrintStream(err)))
+                    .isEqualTo(2);
+        }
+    }
+}
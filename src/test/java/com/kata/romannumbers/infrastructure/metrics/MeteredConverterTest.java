@@ -0,0 +1,155 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import com.kata.romannumbers.application.ArabicToRomanNumberConverterUseCase;
+import com.kata.romannumbers.application.RomanToArabicNumberConverterUseCase;
+import com.kata.romannumbers.application.exception.InvalidArabicNumberException;
+import com.kata.romannumbers.application.exception.InvalidRomanNumberException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Metered Converter Test")
+public class MeteredConverterTest {
+
+    private SimpleMeterRegistry registry;
+    private ConversionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ConversionMetrics(registry);
+    }
+
+    private long timerCount(String direction, String outcome) {
+        return registry.get("roman.numbers.conversion")
+                .tag("direction", direction)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("Arabic to Roman")
+    class ArabicToRomanTests {
+
+        private MeteredArabicToRomanNumberConverter converter;
+
+        @BeforeEach
+        void setUp() {
+            converter = new MeteredArabicToRomanNumberConverter(new ArabicToRomanNumberConverterUseCase(), metrics);
+        }
+
+        @Test
+        @DisplayName("Should time successful conversions and record their value")
+        void shouldTimeSuccessfulConversions() {
+            assertThat(converter.perform(1994)).isEqualTo("MCMXCIV");
+            assertThat(converter.tryPerform(42).roman()).isEqualTo("XLII");
+
+            assertThat(timerCount(ConversionMetrics.ARABIC_TO_ROMAN, "success")).isEqualTo(2);
+            assertThat(registry.get("roman.numbers.conversion.value")
+                    .tag("direction", ConversionMetrics.ARABIC_TO_ROMAN)
+                    .summary()
+                    .totalAmount()).isEqualTo(2036);
+            assertThat(registry.get("roman.numbers.conversion.input.length")
+                    .tag("direction", ConversionMetrics.ARABIC_TO_ROMAN)
+                    .summary()
+                    .max()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should time rejected conversions on the error timer")
+        void shouldTimeRejectedConversions() {
+            assertThat(converter.tryPerform(0).isValid()).isFalse();
+
+            assertThat(timerCount(ConversionMetrics.ARABIC_TO_ROMAN, "error")).isEqualTo(1);
+            assertThat(timerCount(ConversionMetrics.ARABIC_TO_ROMAN, "success")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should meter the primitive entry points")
+        void shouldMeterPrimitiveEntryPoints() throws IOException {
+            StringBuilder appendable = new StringBuilder();
+            converter.perform(4, appendable);
+            assertThat(converter.perform(9, new char[15], 0)).isEqualTo(2);
+            assertThat(converter.perform(40, ByteBuffer.allocate(15))).isEqualTo(2);
+            assertThatThrownBy(() -> converter.perform(0, new char[15], 0))
+                    .isInstanceOf(InvalidArabicNumberException.class);
+            assertThatThrownBy(() -> converter.perform(4000, ByteBuffer.allocate(15)))
+                    .isInstanceOf(InvalidArabicNumberException.class);
+            assertThatThrownBy(() -> converter.perform(-1, appendable))
+                    .isInstanceOf(InvalidArabicNumberException.class);
+
+            assertThat(appendable).hasToString("IV");
+            assertThat(timerCount(ConversionMetrics.ARABIC_TO_ROMAN, "success")).isEqualTo(3);
+            assertThat(timerCount(ConversionMetrics.ARABIC_TO_ROMAN, "error")).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Roman to Arabic")
+    class RomanToArabicTests {
+
+        private MeteredRomanToArabicNumberConverter converter;
+
+        @BeforeEach
+        void setUp() {
+            converter = new MeteredRomanToArabicNumberConverter(new RomanToArabicNumberConverterUseCase(), metrics);
+        }
+
+        @Test
+        @DisplayName("Should time successful conversions and record the input length")
+        void shouldTimeSuccessfulConversions() {
+            assertThat(converter.perform("MMMCMXCIX")).isEqualTo(3999);
+
+            assertThat(timerCount(ConversionMetrics.ROMAN_TO_ARABIC, "success")).isEqualTo(1);
+            assertThat(registry.get("roman.numbers.conversion.input.length")
+                    .tag("direction", ConversionMetrics.ROMAN_TO_ARABIC)
+                    .summary()
+                    .totalAmount()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Should time failed conversions and rethrow the exception")
+        void shouldTimeFailedConversions() {
+            assertThatThrownBy(() -> converter.perform("IIII"))
+                    .isInstanceOf(InvalidRomanNumberException.class);
+
+            assertThat(timerCount(ConversionMetrics.ROMAN_TO_ARABIC, "error")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should meter the primitive entry points")
+        void shouldMeterPrimitiveEntryPoints() {
+            byte[] bytes = "XLII".getBytes(StandardCharsets.US_ASCII);
+            assertThat(converter.decode("MCMXCIV")).isEqualTo(1994);
+            assertThat(converter.decode(bytes, 0, bytes.length)).isEqualTo(42);
+            assertThat(converter.tryPerform("IIII").isValid()).isFalse();
+            assertThatThrownBy(() -> converter.decode("ABC"))
+                    .isInstanceOf(InvalidRomanNumberException.class);
+            assertThatThrownBy(() -> converter.decode(bytes, 0, 0))
+                    .isInstanceOf(InvalidRomanNumberException.class);
+
+            assertThat(timerCount(ConversionMetrics.ROMAN_TO_ARABIC, "success")).isEqualTo(2);
+            assertThat(timerCount(ConversionMetrics.ROMAN_TO_ARABIC, "error")).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count errors by type")
+    void shouldCountErrorsByType() {
+        metrics.countError(ConversionMetrics.TYPE_MISMATCH);
+        metrics.countError(ConversionMetrics.TYPE_MISMATCH);
+
+        assertThat(registry.get("roman.numbers.errors").tag("type", "type_mismatch").counter().count())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kata.romannumbers.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "roman-numbers.metrics.converters.enabled=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Prometheus Endpoint Test")
+public class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should expose conversion timers and error counters")
+    void shouldExposeConversionMetrics() throws Exception {
+        mockMvc.perform(get("/api/v1/roman-numbers/arabic-to-roman").param("number", "42"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/roman-numbers/roman-to-arabic").param("roman", "IIII"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "roman_numbers_conversion_seconds_bucket{direction=\"arabic-to-roman\",outcome=\"success\"")))
+                .andExpect(content().string(containsString(
+                        "roman_numbers_errors_total{type=\"invalid_roman_number\"}")))
+                .andExpect(content().string(containsString("roman_numbers_conversion_value")));
+    }
+}
@@ -0,0 +1,269 @@
+package com.kata.romannumbers.infrastructure.warmup;
+
+import com.kata.romannumbers.infrastructure.journal.ConversionJournal;
+import com.kata.romannumbers.infrastructure.journal.ConversionJournalReader;
+import com.kata.romannumbers.infrastructure.journal.JournalEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Warm-up Test")
+public class WarmUpTest {
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "roman-numbers.warm-up.enabled=true",
+            "roman-numbers.warm-up.numbers-per-round=200",
+            "roman-numbers.warm-up.max-rounds=3",
+            "roman-numbers.metrics.converters.enabled=true"
+    })
+    @DisplayName("At startup")
+    class StartupTests {
+
+        @TempDir
+        static Path journalDirectory;
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private WarmUpRunner runner;
+
+        @Autowired
+        private ApplicationAvailability availability;
+
+        @Autowired
+        private ReadinessRecorder readiness;
+
+        @Autowired
+        private MeterRegistry registry;
+
+        @Autowired
+        private ConversionJournal journal;
+
+        @DynamicPropertySource
+        static void journalDirectory(DynamicPropertyRegistry properties) {
+            properties.add("roman-numbers.journal.directory", () -> journalDirectory);
+        }
+
+        @Test
+        @DisplayName("Should send every round through the endpoints with the expected statuses")
+        void shouldWarmUpEndpoints() {
+            WarmUpReport report = runner.report();
+
+            assertThat(report.state()).isEqualTo(WarmUpReport.COMPLETED);
+            assertThat(report.rounds()).isEqualTo(3);
+            assertThat(report.requests()).isEqualTo(3L * WarmUpRequest.round(0, 200).size());
+            assertThat(report.unexpectedResponses()).isZero();
+            assertThat(report.duration()).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should bypass admission control, leaving the concurrency limit where it started")
+        void shouldBypassAdmissionControl() {
+            assertThat(registry.get("roman.numbers.admission.concurrency.limit").gauge().value()).isEqualTo(100);
+            assertThat(registry.get("roman.numbers.admission.rejected").counters())
+                    .allSatisfy(counter -> assertThat(counter.count()).isZero());
+        }
+
+        @Test
+        @DisplayName("Should keep the warm-up conversions out of the business metrics")
+        void shouldNotMeterWarmUpConversions() {
+            assertThat(registry.get("roman.numbers.conversion").timers())
+                    .allSatisfy(timer -> assertThat(timer.count()).isZero());
+            assertThat(registry.get("roman.numbers.conversion.value").summaries())
+                    .allSatisfy(summary -> assertThat(summary.count()).isZero());
+            assertThat(registry.get("roman.numbers.errors").counters())
+                    .allSatisfy(counter -> assertThat(counter.count()).isZero());
+        }
+
+        @Test
+        @DisplayName("Should keep the warm-up conversions out of the journal")
+        void shouldNotJournalWarmUpConversions() throws Exception {
+            // Entries are written in order, so once this one is on disk any warm-up entry would be too
+            journal.arabicToRoman(1994, null);
+            List<JournalEntry> entries = new ArrayList<>();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (entries.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+                ConversionJournalReader.read(journalDirectory, entries::add);
+            }
+
+            assertThat(entries).extracting(JournalEntry::arabic).containsExactly(1994);
+        }
+
+        @Test
+        @DisplayName("Should only accept traffic once the warm-up has finished")
+        void shouldGateReadiness() {
+            assertThat(readiness.reportWhenAccepting).isNotNull();
+            assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        }
+
+        @Test
+        @DisplayName("Should answer the readiness probe once the warm-up has finished")
+        void shouldAnswerReadinessProbe() throws Exception {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("\"status\":\"UP\"");
+        }
+
+        @TestConfiguration(proxyBeanMethods = false)
+        static class ReadinessConfiguration {
+
+            @Bean
+            ReadinessRecorder readinessRecorder(WarmUpRunner runner) {
+                return new ReadinessRecorder(runner);
+            }
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "roman-numbers.warm-up.enabled=true",
+            "roman-numbers.warm-up.numbers-per-round=200",
+            "roman-numbers.warm-up.max-rounds=1",
+            "roman-numbers.metrics.converters.enabled=true"
+    })
+    @ActiveProfiles("reactive")
+    @DisplayName("At startup of the reactive stack")
+    class ReactiveStartupTests {
+
+        @Autowired
+        private WarmUpRunner runner;
+
+        @Autowired
+        private MeterRegistry registry;
+
+        @Test
+        @DisplayName("Should keep the warm-up conversions out of the business metrics")
+        void shouldNotMeterWarmUpConversions() {
+            assertThat(runner.report().unexpectedResponses()).isZero();
+            assertThat(registry.get("roman.numbers.conversion").timers())
+                    .allSatisfy(timer -> assertThat(timer.count()).isZero());
+            assertThat(registry.get("roman.numbers.errors").counters())
+                    .allSatisfy(counter -> assertThat(counter.count()).isZero());
+        }
+    }
+
+    @Nested
+    @DisplayName("Requests")
+    class RequestTests {
+
+        @Test
+        @DisplayName("Should cover every valid number in both directions across the coverage rounds")
+        void shouldCoverEveryValidNumber() {
+            int numbersPerRound = 1000;
+            Set<String> arabic = new TreeSet<>();
+            Set<String> roman = new TreeSet<>();
+            for (int round = 0; round < WarmUpRequest.coverageRounds(numbersPerRound); round++) {
+                for (WarmUpRequest request : WarmUpRequest.round(round, numbersPerRound)) {
+                    if (request.expectedStatus() != 200) {
+                        continue;
+                    }
+                    (request.pathAndQuery().contains("arabic-to-roman") ? arabic : roman).add(request.pathAndQuery());
+                }
+            }
+
+            assertThat(WarmUpRequest.coverageRounds(numbersPerRound)).isEqualTo(4);
+            assertThat(arabic).hasSize(WarmUpRequest.MAX_ARABIC_VALUE);
+            assertThat(roman).hasSize(WarmUpRequest.MAX_ARABIC_VALUE);
+        }
+
+        @Test
+        @DisplayName("Should include invalid inputs and binary formats in every round")
+        void shouldIncludeInvalidInputsAndBinaryFormats() {
+            List<WarmUpRequest> round = WarmUpRequest.round(7, 100);
+
+            assertThat(round).filteredOn(request -> request.expectedStatus() == 400).hasSize(13);
+            assertThat(round).extracting(WarmUpRequest::accept)
+                    .contains("application/json", "application/cbor", "application/x-jackson-smile",
+                            "application/x-protobuf");
+        }
+    }
+
+    @Nested
+    @DisplayName("Traffic")
+    class TrafficTests {
+
+        @Test
+        @DisplayName("Should only recognise the process token from loopback while the warm-up runs")
+        void shouldOnlyAcceptTokenFromLoopbackWhileRunning() {
+            String token = WarmUpTraffic.token();
+            assertThat(WarmUpTraffic.accepts(token, "127.0.0.1")).isFalse();
+
+            WarmUpTraffic.start();
+            try {
+                assertThat(WarmUpTraffic.accepts(token, "127.0.0.1")).isTrue();
+                assertThat(WarmUpTraffic.accepts(token, "0:0:0:0:0:0:0:1")).isTrue();
+                assertThat(WarmUpTraffic.accepts(token, "10.0.0.1")).isFalse();
+                assertThat(WarmUpTraffic.accepts("guessed", "127.0.0.1")).isFalse();
+                assertThat(WarmUpTraffic.accepts((String) null, "127.0.0.1")).isFalse();
+            } finally {
+                WarmUpTraffic.stop();
+            }
+        }
+
+        @Test
+        @DisplayName("Should only mark the thread serving a warm-up request")
+        void shouldMarkServingThread() {
+            WarmUpTraffic.start();
+            try {
+                assertThat(WarmUpTraffic.isCurrent()).isFalse();
+                WarmUpTraffic.enter();
+                assertThat(WarmUpTraffic.isCurrent()).isTrue();
+                WarmUpTraffic.exit();
+                assertThat(WarmUpTraffic.isCurrent()).isFalse();
+            } finally {
+                WarmUpTraffic.stop();
+            }
+        }
+    }
+
+    static class ReadinessRecorder {
+
+        private final WarmUpRunner runner;
+        private volatile WarmUpReport reportWhenAccepting;
+
+        ReadinessRecorder(WarmUpRunner runner) {
+            this.runner = runner;
+        }
+
+        @EventListener
+        void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                reportWhenAccepting = runner.report();
+            }
+        }
+    }
+}